@@ -37,6 +37,8 @@ dependencies {
     api(kotlin("stdlib", VERSION_KOTLIN))
     api(project(":$RELEASE_ARTIFACT"))
     implementation(material())
+    api(kotlinx("coroutines-core", VERSION_COROUTINES))
+    implementation(kotlinx("coroutines-android", VERSION_COROUTINES))
 
     androidTestImplementation(project(":testing"))
 
@@ -46,6 +48,9 @@ dependencies {
 }
 
 tasks {
+    withType<org.jetbrains.kotlin.gradle.tasks.KotlinCompile> {
+        kotlinOptions.freeCompilerArgs += "-Xopt-in=kotlin.RequiresOptIn"
+    }
     val ktlint = register("ktlint", JavaExec::class) {
         group = LifecycleBasePlugin.VERIFICATION_GROUP
         inputs.dir("src")
@@ -138,3 +138,65 @@ inline fun View.bannerbar(@StringRes titleId: Int, configuration: BannerbarScope
             BannerbarScope(this).configuration()
             show()
         }
+
+/**
+ * Display [Bannerbar] anchored to the top of the screen.
+ *
+ * @param title the title message.
+ * @param duration how long to display the message, [Bannerbar.LENGTH_INDEFINITE] by default.
+ */
+fun View.topBannerbar(
+    @NonNull title: CharSequence,
+    @BaseTransientBottomBar.Duration duration: Int = Bannerbar.LENGTH_INDEFINITE
+): Bannerbar =
+    Bannerbar.makeTop(this, title, duration)
+        .apply { show() }
+
+/**
+ * Display [Bannerbar] anchored to the top of the screen.
+ *
+ * @param title the title message.
+ * @param duration how long to display the message, [Bannerbar.LENGTH_INDEFINITE] by default.
+ * @param configuration custom initialization of bannerbar.
+ */
+inline fun View.topBannerbar(
+    @NonNull title: CharSequence,
+    @BaseTransientBottomBar.Duration duration: Int = Bannerbar.LENGTH_INDEFINITE,
+    configuration: BannerbarScope.() -> Unit
+): Bannerbar =
+    Bannerbar.makeTop(this, title, duration)
+        .apply {
+            BannerbarScope(this).configuration()
+            show()
+        }
+
+/**
+ * Display [Bannerbar] anchored to the top of the screen.
+ *
+ * @param titleId the title message.
+ * @param duration how long to display the message, [Bannerbar.LENGTH_INDEFINITE] by default.
+ */
+fun View.topBannerbar(
+    @StringRes titleId: Int,
+    @BaseTransientBottomBar.Duration duration: Int = Bannerbar.LENGTH_INDEFINITE
+): Bannerbar =
+    Bannerbar.makeTop(this, titleId, duration)
+        .apply { show() }
+
+/**
+ * Display [Bannerbar] anchored to the top of the screen.
+ *
+ * @param titleId the title message.
+ * @param duration how long to display the message, [Bannerbar.LENGTH_INDEFINITE] by default.
+ * @param configuration custom initialization of bannerbar.
+ */
+inline fun View.topBannerbar(
+    @StringRes titleId: Int,
+    @BaseTransientBottomBar.Duration duration: Int = Bannerbar.LENGTH_INDEFINITE,
+    configuration: BannerbarScope.() -> Unit
+): Bannerbar =
+    Bannerbar.makeTop(this, titleId, duration)
+        .apply {
+            BannerbarScope(this).configuration()
+            show()
+        }
@@ -5,11 +5,41 @@ package com.google.android.material.snackbar
 
 import androidx.annotation.NonNull
 
+/**
+ * Add callback invoking [action] when this [Bannerbar] is shown. The action is inlined into the callback, which is the
+ * only object allocated.
+ *
+ * @param action to be invoked.
+ */
+inline fun Bannerbar.doOnShown(crossinline action: (Bannerbar) -> Unit): Bannerbar =
+    addCallback(object : Bannerbar.Callback() {
+        override fun onShown(bannerbar: Bannerbar) = action(bannerbar)
+    })
+
+/**
+ * Add callback invoking [action] when this [Bannerbar] is dismissed. The action is inlined into the callback, which is
+ * the only object allocated.
+ *
+ * @param action to be invoked.
+ */
+inline fun Bannerbar.doOnDismissed(crossinline action: (Bannerbar, event: Int) -> Unit): Bannerbar =
+    addCallback(object : Bannerbar.Callback() {
+        override fun onDismissed(bannerbar: Bannerbar, event: Int) = action(bannerbar, event)
+    })
+
 /**
  * Add callback Kotlin DSL style.
  *
  * @param callback callback to add.
  */
+@Deprecated(
+    "Allocates a builder and one object per action, use doOnShown and doOnDismissed instead.",
+    ReplaceWith(
+        "doOnShown { }.doOnDismissed { _, _ -> }",
+        "com.google.android.material.snackbar.doOnShown",
+        "com.google.android.material.snackbar.doOnDismissed"
+    )
+)
 fun Bannerbar.addCallback(@NonNull callback: CallbackBuilder.() -> Unit): Bannerbar =
     addCallback(CallbackBuilderImpl().apply(callback))
 
@@ -0,0 +1,80 @@
+@file:JvmMultifileClass
+@file:JvmName("BannerbarKt")
+
+package com.google.android.material.snackbar
+
+import android.os.Handler
+import android.os.Looper
+import android.view.View
+import androidx.annotation.NonNull
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.conflate
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.suspendCancellableCoroutine
+import kotlin.coroutines.resume
+
+/**
+ * Show this [Bannerbar] and suspend until it is dismissed. Cancelling the coroutine dismisses it.
+ *
+ * @return one of the `DISMISS_EVENT_*` codes of [Bannerbar.Callback].
+ */
+suspend fun Bannerbar.showAndAwait(): Int = suspendCancellableCoroutine { continuation ->
+    val callback = object : Bannerbar.Callback() {
+        override fun onDismissed(bannerbar: Bannerbar, event: Int) {
+            bannerbar.removeCallback(this)
+            if (continuation.isActive) {
+                continuation.resume(event)
+            }
+        }
+    }
+    addCallback(callback)
+    continuation.invokeOnCancellation {
+        // cancellation may come from any thread
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            removeCallback(callback)
+            dismiss()
+        } else {
+            Handler(Looper.getMainLooper()).post {
+                removeCallback(callback)
+                dismiss()
+            }
+        }
+    }
+    show()
+}
+
+/**
+ * Launch a coroutine in [scope] showing the latest state of this flow as a bannerbar made from [host], or none when
+ * the state is null. Fast-changing states are conflated, and a bannerbar still showing is updated in place with
+ * [Bannerbar.apply] rather than made again. A bannerbar dismissed by the user is made again on the next state.
+ *
+ * Cancelling the returned job dismisses the bannerbar.
+ *
+ * @param host the view to find a parent from, as in [Bannerbar.make].
+ * @param scope the scope to collect this flow in, the bannerbar is handled on the main thread.
+ */
+@OptIn(ExperimentalCoroutinesApi::class) // conflate, only used internally
+fun Flow<BannerbarSpec?>.launchBannerbarIn(@NonNull host: View, @NonNull scope: CoroutineScope): Job =
+    scope.launch(Dispatchers.Main) {
+        var current: Bannerbar? = null
+        try {
+            conflate().collect { spec ->
+                val shown = current?.takeIf { it.isShownOrQueued }
+                current = when {
+                    spec == null -> {
+                        shown?.dismiss()
+                        null
+                    }
+                    shown != null -> shown.apply(spec)
+                    else -> Bannerbar.make(host, spec).apply { show() }
+                }
+            }
+        } finally {
+            current?.dismiss()
+        }
+    }
@@ -9,16 +9,21 @@ import androidx.annotation.NonNull
 import androidx.annotation.Nullable
 import androidx.annotation.StringRes
 
+private const val NO_GETTER: String = "Property does not have a getter."
+
+/** Some mutable backing fields are only used to set value. */
+private fun noGetter(): Nothing = throw UnsupportedOperationException(NO_GETTER)
+
 /**
- * Receiver class of [Bannerbar] builders with custom configuration.
+ * Receiver class of [Bannerbar] builders with custom configuration. Being an inline class, the scope is erased at
+ * compile time and configuring a bannerbar compiles down to direct calls on it.
+ *
+ * Inline classes require a public constructor, which is not meant to be called outside of the builders. Builders
+ * now take the erased [Bannerbar] in their signature, so binaries compiled against the former regular class have to be
+ * recompiled.
  */
-class BannerbarScope @PublishedApi internal constructor(private val bannerbar: Bannerbar) {
-    private companion object {
-        const val NO_GETTER: String = "Property does not have a getter."
-
-        /** Some mutable backing fields are only used to set value. */
-        fun noGetter(): Nothing = throw UnsupportedOperationException(NO_GETTER)
-    }
+@Suppress("EXPERIMENTAL_FEATURE_WARNING")
+inline class BannerbarScope(@PublishedApi internal val bannerbar: Bannerbar) {
 
     /**
      * @see Bannerbar.setDuration
@@ -29,6 +34,17 @@ class BannerbarScope @PublishedApi internal constructor(private val bannerbar: B
             bannerbar.duration = value
         }
 
+    /**
+     * View pushed down by a top bannerbar while shown.
+     *
+     * @see Bannerbar.setPushTarget
+     */
+    var pushTarget: View?
+        @Deprecated(NO_GETTER, level = DeprecationLevel.ERROR) get() = noGetter()
+        set(@Nullable value) {
+            bannerbar.setPushTarget(value)
+        }
+
     /**
      * @see Bannerbar.setIcon
      */
@@ -65,6 +81,26 @@ class BannerbarScope @PublishedApi internal constructor(private val bannerbar: B
             bannerbar.setTitle(value)
         }
 
+    /**
+     * Title precomputed on a background thread, bound before the bannerbar is shown.
+     *
+     * @see Bannerbar.setTitleAsync
+     */
+    var titleAsync: CharSequence
+        @Deprecated(NO_GETTER, level = DeprecationLevel.ERROR) get() = noGetter()
+        set(@NonNull value) {
+            bannerbar.setTitleAsync(value)
+        }
+
+    /**
+     * @see Bannerbar.setTitleAsync
+     */
+    var titleAsyncId: Int
+        @Deprecated(NO_GETTER, level = DeprecationLevel.ERROR) get() = noGetter()
+        set(@StringRes value) {
+            bannerbar.setTitleAsync(value)
+        }
+
     /**
      * @see Bannerbar.setSubtitle
      */
@@ -83,6 +119,26 @@ class BannerbarScope @PublishedApi internal constructor(private val bannerbar: B
             bannerbar.setSubtitle(value)
         }
 
+    /**
+     * Subtitle precomputed on a background thread, bound before the bannerbar is shown.
+     *
+     * @see Bannerbar.setSubtitleAsync
+     */
+    var subtitleAsync: CharSequence
+        @Deprecated(NO_GETTER, level = DeprecationLevel.ERROR) get() = noGetter()
+        set(@NonNull value) {
+            bannerbar.setSubtitleAsync(value)
+        }
+
+    /**
+     * @see Bannerbar.setSubtitleAsync
+     */
+    var subtitleAsyncId: Int
+        @Deprecated(NO_GETTER, level = DeprecationLevel.ERROR) get() = noGetter()
+        set(@StringRes value) {
+            bannerbar.setSubtitleAsync(value)
+        }
+
     /**
      * @see Bannerbar.addAction
      */
@@ -98,17 +154,45 @@ class BannerbarScope @PublishedApi internal constructor(private val bannerbar: B
     }
 
     /**
+     * Add action with an existing listener, which is set as is.
+     *
+     * @see addAction
+     */
+    operator fun CharSequence.invoke(@Nullable action: View.OnClickListener?) {
+        addAction(this, action)
+    }
+
+    /**
+     * Add action with an existing listener, which is set as is.
+     *
+     * @see addAction
+     */
+    operator fun @receiver:StringRes Int.invoke(@Nullable action: View.OnClickListener?) {
+        addAction(this, action)
+    }
+
+    /**
+     * Add action invoking [action]. Kotlin 1.3 does not convert lambdas to Java interfaces for Kotlin functions, so
+     * [action] is inlined as the body of the listener itself, which is the only object allocated.
+     *
      * @see addAction
      */
     inline operator fun CharSequence.invoke(crossinline action: (View) -> Unit) {
-        addAction(this, View.OnClickListener { action(it) })
+        addAction(this, object : View.OnClickListener {
+            override fun onClick(view: View) = action(view)
+        })
     }
 
     /**
+     * Add action invoking [action]. Kotlin 1.3 does not convert lambdas to Java interfaces for Kotlin functions, so
+     * [action] is inlined as the body of the listener itself, which is the only object allocated.
+     *
      * @see addAction
      */
     inline operator fun @receiver:StringRes Int.invoke(crossinline action: (View) -> Unit) {
-        addAction(this, View.OnClickListener { action(it) })
+        addAction(this, object : View.OnClickListener {
+            override fun onClick(view: View) = action(view)
+        })
     }
 
     /**
@@ -135,7 +219,7 @@ class BannerbarScope @PublishedApi internal constructor(private val bannerbar: B
     var subtitleColors: ColorStateList
         @Deprecated(NO_GETTER, level = DeprecationLevel.ERROR) get() = noGetter()
         set(@NonNull value) {
-            bannerbar.setTitleColor(value)
+            bannerbar.setSubtitleColor(value)
         }
 
     /**
@@ -164,4 +248,18 @@ class BannerbarScope @PublishedApi internal constructor(private val bannerbar: B
         set(@ColorInt value) {
             bannerbar.setActionsTextColor(value)
         }
+
+    /**
+     * @see Bannerbar.doOnShown
+     */
+    inline fun doOnShown(crossinline action: (Bannerbar) -> Unit) {
+        bannerbar.doOnShown(action)
+    }
+
+    /**
+     * @see Bannerbar.doOnDismissed
+     */
+    inline fun doOnDismissed(crossinline action: (Bannerbar, event: Int) -> Unit) {
+        bannerbar.doOnDismissed(action)
+    }
 }
@@ -0,0 +1,123 @@
+package com.hendraanggrian.material.bannerbar.ktx
+
+import android.graphics.Color
+import android.os.Debug
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarScope
+import com.google.android.material.snackbar.bannerbar
+import com.google.android.material.snackbar.doOnShown
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class AllocationTest : AbstractTest() {
+    private companion object {
+        const val ITERATIONS = 1000
+    }
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Allocation test"))
+    }
+
+    @Test fun builder() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val direct = countAllocations(uiController) {
+                    Bannerbar.make(view, "Builder", Bannerbar.LENGTH_INDEFINITE).apply {
+                        duration = Bannerbar.LENGTH_LONG
+                        setTitleColor(Color.RED)
+                        setSubtitleColor(Color.RED)
+                        show()
+                    }
+                }
+                val built = countAllocations(uiController) {
+                    view.bannerbar("Builder") {
+                        duration = Bannerbar.LENGTH_LONG
+                        titleColor = Color.RED
+                        subtitleColor = Color.RED
+                    }
+                }
+                assertEquals(direct, built)
+            }
+        })
+    }
+
+    @Test fun callback() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val bannerbars = List(ITERATIONS * 2) { Bannerbar.make(view, "Callback", Bannerbar.LENGTH_SHORT) }
+                var index = 0
+                val direct = countAllocations(uiController) {
+                    bannerbars[index++].addCallback(object : Bannerbar.Callback() {
+                        override fun onShown(bannerbar: Bannerbar) {
+                        }
+                    })
+                }
+                val inlined = countAllocations(uiController) {
+                    bannerbars[index++].doOnShown { }
+                }
+                assertEquals(direct, inlined)
+            }
+        })
+    }
+
+    @Test fun action() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val bannerbar = Bannerbar.make(view, "Action", Bannerbar.LENGTH_INDEFINITE)
+                // both listeners capture the view, so that each call allocates one
+                val direct = countAllocations(uiController) {
+                    bannerbar.clearActions()
+                        .addAction("Action", View.OnClickListener { view.tag = it })
+                }
+                val invoked = countAllocations(uiController) {
+                    bannerbar.clearActions()
+                    with(BannerbarScope(bannerbar)) {
+                        "Action" { view.tag = it }
+                    }
+                }
+                assertEquals(direct, invoked)
+            }
+        })
+    }
+
+    /**
+     * Counts objects allocated by [ITERATIONS] calls of [block] on this thread, after a warm-up call. The main thread
+     * is idled first so that both sides of a comparison start with the same pending messages.
+     */
+    @Suppress("DEPRECATION")
+    private inline fun countAllocations(uiController: UiController, block: () -> Unit): Int {
+        block()
+        uiController.loopMainThreadUntilIdle()
+        Debug.resetThreadAllocCount()
+        Debug.startAllocCounting()
+        repeat(ITERATIONS - 1) { block() }
+        Debug.stopAllocCounting()
+        return Debug.getThreadAllocCount()
+    }
+}
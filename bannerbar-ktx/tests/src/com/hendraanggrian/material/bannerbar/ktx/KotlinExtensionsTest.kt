@@ -1,6 +1,7 @@
 package com.hendraanggrian.material.bannerbar.ktx
 
 import android.view.View
+import android.view.ViewGroup
 import android.widget.FrameLayout
 import androidx.test.espresso.Espresso.onView
 import androidx.test.espresso.UiController
@@ -11,18 +12,34 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import androidx.test.filters.LargeTest
 import androidx.test.rule.ActivityTestRule
 import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarContentLayout
+import com.google.android.material.snackbar.BannerbarSpec
 import com.google.android.material.snackbar.bannerbar
+import com.google.android.material.snackbar.launchBannerbarIn
 import com.google.android.material.snackbar.longBannerbar
 import com.google.android.material.snackbar.shortBannerbar
+import com.google.android.material.snackbar.showAndAwait
+import com.google.android.material.snackbar.topBannerbar
 import com.hendraanggrian.material.bannerbar.test.AbstractTest
 import com.hendraanggrian.material.bannerbar.test.R
 import com.hendraanggrian.material.bannerbar.test.TestActivity
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.delay as suspendFor
+import kotlinx.coroutines.flow.consumeAsFlow
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withContext
 import org.junit.Rule
 import org.junit.runner.RunWith
 import kotlin.test.BeforeTest
 import kotlin.test.Ignore
 import kotlin.test.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
 
 @LargeTest
 @RunWith(AndroidJUnit4::class)
@@ -42,7 +59,7 @@ class KotlinExtensionsTest : AbstractTest() {
             override fun perform(uiController: UiController, view: View) {
                 assertEquals(Bannerbar.LENGTH_SHORT, view.shortBannerbar(title).duration)
                 view.shortBannerbar(title) {
-                    addCallback { onShown { assertEquals(Bannerbar.LENGTH_SHORT, duration) } }
+                    doOnShown { assertEquals(Bannerbar.LENGTH_SHORT, duration) }
                 }
             }
         })
@@ -57,7 +74,7 @@ class KotlinExtensionsTest : AbstractTest() {
             override fun perform(uiController: UiController, view: View) {
                 assertEquals(Bannerbar.LENGTH_LONG, view.longBannerbar(title).duration)
                 view.longBannerbar(title) {
-                    addCallback { onShown { assertEquals(Bannerbar.LENGTH_LONG, duration) } }
+                    doOnShown { assertEquals(Bannerbar.LENGTH_LONG, duration) }
                 }
             }
         })
@@ -72,10 +89,82 @@ class KotlinExtensionsTest : AbstractTest() {
             override fun perform(uiController: UiController, view: View) {
                 assertEquals(Bannerbar.LENGTH_INDEFINITE, view.bannerbar(title).duration)
                 view.bannerbar(title) {
-                    addCallback { onShown { assertEquals(Bannerbar.LENGTH_INDEFINITE, duration) } }
+                    doOnShown { assertEquals(Bannerbar.LENGTH_INDEFINITE, duration) }
                 }
             }
         })
         onView(withId(R.id.progressBar)).perform(delay(4000))
     }
-}
\ No newline at end of file
+
+    @Test fun top() {
+        val title = "Is this a top bannerbar?"
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                view.topBannerbar(title, Bannerbar.LENGTH_LONG) {
+                    doOnShown {
+                        val frame = IntArray(2).also { view.getLocationOnScreen(it) }
+                        val content = IntArray(2).also { location -> it.contentLayout.getLocationOnScreen(location) }
+                        assertTrue(content[1] < frame[1] + view.height / 2)
+                    }
+                }
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(4000))
+    }
+
+    @Test fun await() = runBlocking {
+        val event = withContext(Dispatchers.Main) {
+            Bannerbar.make(rule.activity.findViewById(R.id.frameLayout), "Awaiting dismissal", Bannerbar.LENGTH_SHORT)
+                .showAndAwait()
+        }
+        assertEquals(Bannerbar.Callback.DISMISS_EVENT_TIMEOUT, event)
+    }
+
+    @Test fun awaitCancellation() = runBlocking {
+        val bannerbar = withContext(Dispatchers.Main) {
+            Bannerbar.make(rule.activity.findViewById(R.id.frameLayout), "Cancel me", Bannerbar.LENGTH_INDEFINITE)
+        }
+        val job = launch(Dispatchers.Main) { bannerbar.showAndAwait() }
+        suspendFor(1000)
+        withContext(Dispatchers.Main) { assertTrue(bannerbar.isShown) }
+        job.cancelAndJoin()
+        suspendFor(1000)
+        withContext(Dispatchers.Main) { assertFalse(bannerbar.isShownOrQueued) }
+    }
+
+    @Test fun flow() = runBlocking {
+        val states = Channel<BannerbarSpec?>()
+        val job = states.consumeAsFlow().launchBannerbarIn(rule.activity.findViewById(R.id.frameLayout), this)
+        val first = BannerbarSpec.Builder(rule.activity).setTitle("First state").build()
+        states.send(first)
+        suspendFor(1000)
+        val content = withContext(Dispatchers.Main) { findContents().single() }
+
+        states.send(first.buildUpon(rule.activity).setTitle("Second state").build())
+        suspendFor(500)
+        withContext(Dispatchers.Main) {
+            assertSame(content, findContents().single())
+            assertEquals("Second state", content.titleView.text.toString())
+        }
+
+        states.send(null)
+        suspendFor(1000)
+        withContext(Dispatchers.Main) { assertTrue(findContents().isEmpty()) }
+        job.cancelAndJoin()
+    }
+
+    /** Contents of bannerbars currently in the window, a bannerbar updated in place keeps its content. */
+    private fun findContents(): List<BannerbarContentLayout> {
+        val contents = mutableListOf<BannerbarContentLayout>()
+        fun find(view: View) {
+            when (view) {
+                is BannerbarContentLayout -> contents += view
+                is ViewGroup -> (0 until view.childCount).forEach { find(view.getChildAt(it)) }
+            }
+        }
+        find(rule.activity.window.decorView)
+        return contents
+    }
+}
@@ -33,8 +33,12 @@ android {
 
 dependencies {
     implementation(material())
+    implementation(androidx("collection"))
+    compileOnly(androidx("recyclerview"))
+    compileOnly(androidx("startup", "startup-runtime", VERSION_STARTUP))
 
     androidTestImplementation(project(":testing"))
+    androidTestImplementation(androidx("recyclerview"))
 }
 
 tasks.withType<Javadoc> {
@@ -1,50 +1,107 @@
 package com.google.android.material.snackbar;
 
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
 import android.content.Context;
 import android.content.res.ColorStateList;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
+import android.net.Uri;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.text.Spanned;
 import android.text.TextUtils;
+import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.ViewParent;
-import android.view.accessibility.AccessibilityManager;
+import android.view.ViewTreeObserver;
 import android.widget.FrameLayout;
-import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.DrawableRes;
+import androidx.annotation.IntDef;
+import androidx.annotation.IntRange;
+import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
-import androidx.core.content.ContextCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.view.ViewCompat;
+import androidx.core.widget.TextViewCompat;
 
-import com.hendraanggrian.material.bannerbar.R;
+import com.google.android.material.animation.AnimationUtils;
 
-import static android.view.accessibility.AccessibilityManager.FLAG_CONTENT_CONTROLS;
-import static android.view.accessibility.AccessibilityManager.FLAG_CONTENT_ICONS;
-import static android.view.accessibility.AccessibilityManager.FLAG_CONTENT_TEXT;
-import static com.google.android.material.snackbar.Snackbar.hasSnackbarButtonStyleAttr;
+import java.io.File;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 
 /**
  * Expanded {@link com.google.android.material.snackbar.Snackbar}, useful for displaying
  * full-screen message.
+ * <p>
+ * <p>Content setters may be called while the Bannerbar is shown to update it in place, only views whose content
+ * changed are touched.
  *
  * @see com.google.android.material.snackbar.Snackbar
  */
 public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
 
+    @IntDef({SHOW_IMMEDIATELY, SHOW_WHEN_IDLE})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface ShowMode {
+    }
+
+    /**
+     * {@link #show()} shows right away, the default.
+     */
+    public static final int SHOW_IMMEDIATELY = 0;
+    /**
+     * {@link #show()} waits for the main thread to go idle and for scrolling to stop, up to the maximum show delay.
+     * Meant for low priority messages that should not add to the work of a busy frame.
+     */
+    public static final int SHOW_WHEN_IDLE = 1;
+
+    /**
+     * How long scrolling must have stopped for before showing in {@link #SHOW_WHEN_IDLE}.
+     */
+    static final long QUIET_PERIOD = 200;
+    private static final long DEFAULT_MAX_SHOW_DELAY = 3000;
+
+    @NonNull
+    private final ViewGroup targetParent;
+    @NonNull
+    private final BannerbarContentLayout contentLayout;
+    @LayoutRes
+    private final int layoutId;
+    private boolean recycled;
     @Nullable
-    private final AccessibilityManager accessibilityManager;
-    private int actionCount = 0;
+    private PrecomputeTask pendingTitle;
+    @Nullable
+    private PrecomputeTask pendingSubtitle;
+    private boolean isShowPending;
+
+    @ShowMode
+    private int showMode = SHOW_IMMEDIATELY;
+    private long maxShowDelay = DEFAULT_MAX_SHOW_DELAY;
+    @Nullable
+    private IdleShow idleShow;
+
+    private boolean isTop;
+    @Nullable
+    private View pushTarget;
+    @Nullable
+    private ValueAnimator topAnimator;
 
     private boolean hasAction() {
-        return actionCount > 0;
+        return contentLayout.actionCount > 0;
     }
 
     /**
@@ -98,22 +155,41 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     private Bannerbar(
         @NonNull ViewGroup parent,
-        @NonNull View content,
-        @NonNull com.google.android.material.snackbar.ContentViewCallback contentViewCallback
+        @NonNull BannerbarContentLayout content,
+        @LayoutRes int layoutId
     ) {
-        super(parent, content, contentViewCallback);
-        accessibilityManager =
-            (AccessibilityManager) parent.getContext().getSystemService(Context.ACCESSIBILITY_SERVICE);
+        super(parent, content, content);
+        contentLayout = content;
+        targetParent = parent;
+        this.layoutId = layoutId;
 
-        if (content instanceof BannerbarContentLayout) {
-            ((BannerbarContentLayout) content).updateActionTextColorAlphaIfNeeded(view.getActionTextColorAlpha());
-        }
+        content.updateActionTextColorAlphaIfNeeded(view.getActionTextColorAlpha());
+        final HostCallback hostCallback = new HostCallback();
+        content.setDismissListener(hostCallback);
+        addCallback(hostCallback);
     }
 
     // TODO: Delete this once custom Robolectric shadows no longer depend on this method being present
     // (and instead properly utilize BaseTransientBottomBar hierarchy).
     @Override
     public void show() {
+        checkNotRecycled();
+        if (showMode == SHOW_WHEN_IDLE) {
+            if (idleShow == null) {
+                idleShow = new IdleShow();
+            }
+            idleShow.start();
+            return;
+        }
+        showWhenBound();
+    }
+
+    private void showWhenBound() {
+        // texts being precomputed are bound first, show() is called again once they are
+        if (pendingTitle != null || pendingSubtitle != null) {
+            isShowPending = true;
+            return;
+        }
         super.show();
     }
 
@@ -121,6 +197,10 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
     // (and instead properly utilize BaseTransientBottomBar hierarchy).
     @Override
     public void dismiss() {
+        isShowPending = false;
+        if (idleShow != null) {
+            idleShow.cancel();
+        }
         super.dismiss();
     }
 
@@ -149,25 +229,107 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public static Bannerbar make(@NonNull View view, @NonNull CharSequence title, @Duration int duration) {
-        final ViewGroup parent = findSuitableParent(view);
+        final ViewGroup parent = BannerbarHosts.find(view);
         if (parent == null) {
             throw new IllegalArgumentException(
                 "No suitable parent found from the given view. Please provide a valid view.");
         }
+        return makeIn(parent, title, duration);
+    }
 
-        final LayoutInflater inflater = LayoutInflater.from(parent.getContext());
-        final BannerbarContentLayout content = (BannerbarContentLayout) inflater.inflate(
-            hasSnackbarButtonStyleAttr(parent.getContext())
-                ? R.layout.mtrl_layout_bannerbar_include
-                : R.layout.design_layout_bannerbar_include,
-            parent,
-            false);
-        final Bannerbar bannerbar = new Bannerbar(parent, content, content);
+    /**
+     * Make an Bannerbar to display a message in the given parent, skipping the search done by {@link #make(View,
+     * CharSequence, int)}.
+     *
+     * @param parent   The view to hold Bannerbar's view, typically a {@link CoordinatorLayout} or the window decor's
+     *                 content view.
+     * @param title    The text to show. Can be formatted text.
+     * @param duration How long to display the message. Can be {@link #LENGTH_SHORT}, {@link
+     *                 #LENGTH_LONG}, {@link #LENGTH_INDEFINITE}, or a custom duration in milliseconds.
+     */
+    @NonNull
+    public static Bannerbar makeIn(@NonNull ViewGroup parent, @NonNull CharSequence title, @Duration int duration) {
+        final Context context = parent.getContext();
+        final int layoutId = BannerbarResources.get(context).layoutId;
+        BannerbarContentLayout content = BannerbarPool.getInstance(context).acquire(context, layoutId);
+        if (content == null) {
+            content = (BannerbarContentLayout) LayoutInflater.from(context).inflate(layoutId, parent, false);
+        }
+        final Bannerbar bannerbar = new Bannerbar(parent, content, layoutId);
         bannerbar.setTitle(title);
         bannerbar.setDuration(duration);
         return bannerbar;
     }
 
+    /**
+     * Make an Bannerbar anchored to the top of its parent, as material banners are, instead of the bottom.
+     * <p>
+     * <p>A top Bannerbar is laid out once at its final position and slides in with {@code translationY} alone, so no
+     * layout pass happens during the transition. It fades out. Content below may be pushed down along with it, see
+     * {@link #setPushTarget(View)}.
+     *
+     * @param view     The view to find a parent from, as in {@link #make(View, CharSequence, int)}.
+     * @param title    The text to show. Can be formatted text.
+     * @param duration How long to display the message. Can be {@link #LENGTH_SHORT}, {@link
+     *                 #LENGTH_LONG}, {@link #LENGTH_INDEFINITE}, or a custom duration in milliseconds.
+     */
+    @NonNull
+    public static Bannerbar makeTop(@NonNull View view, @NonNull CharSequence title, @Duration int duration) {
+        return make(view, title, duration).anchorTop();
+    }
+
+    /**
+     * Make an Bannerbar anchored to the top of its parent.
+     *
+     * @param view     The view to find a parent from, as in {@link #make(View, CharSequence, int)}.
+     * @param titleId  The resource id of the string resource to use. Can be formatted text.
+     * @param duration How long to display the message. Can be {@link #LENGTH_SHORT}, {@link
+     *                 #LENGTH_LONG}, {@link #LENGTH_INDEFINITE}, or a custom duration in milliseconds.
+     * @see #makeTop(View, CharSequence, int)
+     */
+    @NonNull
+    public static Bannerbar makeTop(@NonNull View view, @StringRes int titleId, @Duration int duration) {
+        return makeTop(view, view.getResources().getText(titleId), duration);
+    }
+
+    /**
+     * Make an Bannerbar to display a message in an overlay layer above the window decor's content view, rather than in
+     * the app's hierarchy.
+     * <p>
+     * <p>Showing and dismissing an overlay Bannerbar does not lay out the app's views: a {@link CoordinatorLayout}
+     * holding {@code view} runs no dependency pass, and views such as a floating action button are not moved. Window
+     * insets are applied as when the content view is the parent. Swipe-to-dismiss, only available within a {@link
+     * CoordinatorLayout}, is not.
+     *
+     * @param view     Any view of the window to display the message in.
+     * @param title    The text to show. Can be formatted text.
+     * @param duration How long to display the message. Can be {@link #LENGTH_SHORT}, {@link
+     *                 #LENGTH_LONG}, {@link #LENGTH_INDEFINITE}, or a custom duration in milliseconds.
+     */
+    @NonNull
+    public static Bannerbar makeOverlay(@NonNull View view, @NonNull CharSequence title, @Duration int duration) {
+        final ViewGroup parent = BannerbarOverlay.find(view);
+        if (parent == null) {
+            throw new IllegalArgumentException(
+                "No content view found from the given view. Please provide a valid view.");
+        }
+        return makeIn(parent, title, duration);
+    }
+
+    /**
+     * Make an Bannerbar to display a message in an overlay layer above the window decor's content view.
+     *
+     * @param view     Any view of the window to display the message in.
+     * @param titleId  The resource id of the string resource to use. Can be formatted text.
+     * @param duration How long to display the message. Can be {@link #LENGTH_SHORT}, {@link
+     *                 #LENGTH_LONG}, {@link #LENGTH_INDEFINITE}, or a custom duration in milliseconds.
+     * @see #makeOverlay(View, CharSequence, int)
+     */
+    @NonNull
+    public static Bannerbar makeOverlay(@NonNull View view, @StringRes int titleId, @Duration int duration) {
+        return makeOverlay(view, view.getResources().getText(titleId), duration);
+    }
+
     /**
      * Make an Bannerbar to display a message.
      *
@@ -189,38 +351,266 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
         return make(view, view.getResources().getText(titleId), duration);
     }
 
-    @Nullable
-    private static ViewGroup findSuitableParent(View view) {
-        ViewGroup fallback = null;
-        do {
-            if (view instanceof CoordinatorLayout) {
-                // We've found a CoordinatorLayout, use it
-                return (ViewGroup) view;
-            } else if (view instanceof FrameLayout) {
-                if (view.getId() == android.R.id.content) {
-                    // If we've hit the decor content view, then we didn't find a CoL in the
-                    // hierarchy, so use it.
-                    return (ViewGroup) view;
-                } else {
-                    // It's not the content view but we'll use it as our fallback
-                    fallback = (ViewGroup) view;
+    /**
+     * Make an Bannerbar to display a message in the given parent, skipping the search done by {@link #make(View,
+     * int, int)}.
+     *
+     * @param parent   The view to hold Bannerbar's view, typically a {@link CoordinatorLayout} or the window decor's
+     *                 content view.
+     * @param titleId  The resource id of the string resource to use. Can be formatted text.
+     * @param duration How long to display the message. Can be {@link #LENGTH_SHORT}, {@link
+     *                 #LENGTH_LONG}, {@link #LENGTH_INDEFINITE}, or a custom duration in milliseconds.
+     */
+    @NonNull
+    public static Bannerbar makeIn(@NonNull ViewGroup parent, @StringRes int titleId, @Duration int duration) {
+        return makeIn(parent, parent.getResources().getText(titleId), duration);
+    }
+
+    /**
+     * Make an Bannerbar bound to {@code spec}.
+     *
+     * @param view The view to find a parent from.
+     * @param spec Content of the Bannerbar, typically built ahead of time.
+     * @see #make(View, CharSequence, int)
+     */
+    @NonNull
+    public static Bannerbar make(@NonNull View view, @NonNull BannerbarSpec spec) {
+        return make(view, spec.getTitle(), spec.getDuration()).apply(spec);
+    }
+
+    /**
+     * Inflate content of up to {@code count} bannerbars ahead of time, so that the first {@link #make(View,
+     * CharSequence, int)} calls do not pay for inflation and class loading.
+     * <p>
+     * <p>Content is inflated on the main thread, one at a time, whenever its message queue is idle. This method may be
+     * called from any thread.
+     *
+     * @param context The context bannerbars will be made with, typically an activity.
+     * @param count   How many content layouts to inflate, capped to the size of the recycling pool.
+     */
+    public static void prewarm(@NonNull Context context, int count) {
+        BannerbarPool.prewarm(context, count);
+    }
+
+    @NonNull
+    private Bannerbar anchorTop() {
+        isTop = true;
+        // the bottom slide out would cross the whole parent
+        setAnimationMode(ANIMATION_MODE_FADE);
+        final ViewGroup.LayoutParams lp = view.getLayoutParams();
+        if (lp instanceof CoordinatorLayout.LayoutParams) {
+            ((CoordinatorLayout.LayoutParams) lp).gravity = Gravity.TOP;
+        } else if (lp instanceof FrameLayout.LayoutParams) {
+            ((FrameLayout.LayoutParams) lp).gravity = Gravity.TOP;
+        }
+        view.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+            @Override
+            public void onViewAttachedToWindow(View v) {
+                // BaseTransientBottomBar insets the bottom edge, which would have dependents dodge a top bar
+                final ViewGroup.LayoutParams lp = v.getLayoutParams();
+                if (lp instanceof CoordinatorLayout.LayoutParams) {
+                    ((CoordinatorLayout.LayoutParams) lp).insetEdge = Gravity.NO_GRAVITY;
                 }
             }
 
-            if (view != null) {
-                // Else, we will loop and crawl up the view hierarchy and try to find a parent
-                final ViewParent parent = view.getParent();
-                view = parent instanceof View ? (View) parent : null;
+            @Override
+            public void onViewDetachedFromWindow(View v) {
             }
-        } while (view != null);
+        });
+        view.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                       int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                // content updated in place while shown
+                if (bottom != oldBottom && isShown() && (topAnimator == null || !topAnimator.isRunning())) {
+                    updatePushTarget();
+                }
+            }
+        });
+        addCallback(new BaseCallback<Bannerbar>() {
+            @Override
+            public void onDismissed(Bannerbar transientBottomBar, @DismissEvent int event) {
+                // consecutive dismissals skip dispatchDismiss, called before content is recycled
+                hideTop();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Starts hiding a top Bannerbar as soon as it is dismissed, rather than once faded out.
+     */
+    @Override
+    protected void dispatchDismiss(@BaseCallback.DismissEvent int event) {
+        if (isTop) {
+            hideTop();
+        }
+        super.dispatchDismiss(event);
+    }
 
-        // If we reach here then we didn't find a CoL or a suitable content view so we'll fallback
-        return fallback;
+    /**
+     * Stops sliding in, so that a Bannerbar dismissed meanwhile is never reported shown, and moves the push target
+     * back.
+     */
+    private void hideTop() {
+        if (topAnimator != null) {
+            topAnimator.cancel();
+            topAnimator = null;
+        }
+        if (pushTarget != null) {
+            ViewCompat.animate(pushTarget)
+                .translationY(0f)
+                .setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR)
+                .setDuration(ANIMATION_DURATION);
+            pushTarget = null;
+        }
     }
 
+    /**
+     * Slides a top Bannerbar down from above its parent, the bottom one keeps the default transition.
+     */
+    @Override
+    void animateViewIn() {
+        if (!isTop) {
+            super.animateViewIn();
+            return;
+        }
+        final int hiddenY = -view.getBottom();
+        if (BannerbarAnimationPolicy.getInstance(getContext()).isReduced()) {
+            view.setTranslationY(0f);
+            updatePushTarget();
+            onViewShown();
+            return;
+        }
+        view.setTranslationY(hiddenY);
+        topAnimator = ValueAnimator.ofFloat(hiddenY, 0f);
+        topAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
+        topAnimator.setDuration(ANIMATION_DURATION);
+        topAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ValueAnimator animator) {
+                view.setTranslationY((float) animator.getAnimatedValue());
+                updatePushTarget();
+            }
+        });
+        topAnimator.addListener(new AnimatorListenerAdapter() {
+            private boolean isCancelled;
+
+            @Override
+            public void onAnimationStart(Animator animator) {
+                contentLayout.animateContentIn(
+                    ANIMATION_DURATION - ANIMATION_FADE_DURATION, ANIMATION_FADE_DURATION);
+            }
+
+            @Override
+            public void onAnimationCancel(Animator animator) {
+                isCancelled = true;
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animator) {
+                if (!isCancelled) {
+                    onViewShown();
+                }
+            }
+        });
+        topAnimator.start();
+    }
+
+    private void updatePushTarget() {
+        if (pushTarget != null) {
+            pushTarget.setTranslationY(Math.max(0f, view.getBottom() + view.getTranslationY()));
+        }
+    }
+
+    /**
+     * Push {@code target} down by the visible height of this top Bannerbar while it is shown, with {@code
+     * translationY} only so that neither the target nor its siblings are measured again. Content at the bottom of the
+     * target is pushed out of its parent rather than resized.
+     *
+     * @param target The view below this Bannerbar, typically the main content of the screen. Null to push nothing.
+     * @see #makeTop(View, CharSequence, int)
+     */
+    @NonNull
+    public Bannerbar setPushTarget(@Nullable View target) {
+        pushTarget = target;
+        if (isShown()) {
+            updatePushTarget();
+        }
+        return this;
+    }
+
+    /**
+     * Returns the content of this {@link Bannerbar}. Once dismissed, the content is recycled and may be bound to
+     * another bannerbar, it should not be modified afterwards. Setters of a dismissed Bannerbar throw rather than
+     * modify it.
+     */
     @NonNull
     public BannerbarContentLayout getContentLayout() {
-        return (BannerbarContentLayout) view.getChildAt(0);
+        return contentLayout;
+    }
+
+    /**
+     * Throws if content of this {@link Bannerbar} has been recycled, it may already be shown by another bannerbar.
+     */
+    private void checkNotRecycled() {
+        if (recycled) {
+            throw new IllegalStateException("Bannerbar has been dismissed and its content recycled, make a new one.");
+        }
+    }
+
+    /**
+     * Detach content from this {@link Bannerbar} and return it to {@link BannerbarPool}. Once recycled, showing or
+     * updating this Bannerbar throws {@link IllegalStateException}.
+     */
+    void recycle() {
+        if (recycled) {
+            return;
+        }
+        recycled = true;
+        cancel(pendingTitle);
+        cancel(pendingSubtitle);
+        pendingTitle = pendingSubtitle = null;
+        isShowPending = false;
+        if (idleShow != null) {
+            idleShow.cancel();
+        }
+        view.removeView(contentLayout);
+        BannerbarPool.getInstance(getContext()).release(getContext(), layoutId, contentLayout);
+    }
+
+    /**
+     * Notifies callbacks that this Bannerbar, which was never shown, is dismissed with {@code event}, then recycles its
+     * content. Used for bannerbars that are discarded instead of shown, so that whatever waits on them completes.
+     */
+    void discard(@BaseCallback.DismissEvent int event) {
+        onViewHidden(event);
+        recycle();
+    }
+
+    /**
+     * Bind everything described by {@code spec} in a single pass, layout is only requested once at the end. Text
+     * colors that the spec leaves unset are restored to the theme's, tint left unset keeps its current value, actions
+     * are replaced by those of the spec.
+     * <p>
+     * <p>This may be called on a shown {@link Bannerbar}, only views whose content changed are touched.
+     *
+     * @param spec Content of the Bannerbar.
+     */
+    @NonNull
+    public Bannerbar apply(@NonNull BannerbarSpec spec) {
+        checkNotRecycled();
+        // a stale async text would overwrite the spec's once precomputed
+        cancel(pendingTitle);
+        cancel(pendingSubtitle);
+        pendingTitle = pendingSubtitle = null;
+        contentLayout.bind(spec);
+        if (spec.getBackgroundTint() != null) {
+            setBackgroundTintList(spec.getBackgroundTint());
+        }
+        setDuration(spec.getDuration());
+        showIfBound();
+        return this;
     }
 
     /**
@@ -230,13 +620,8 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setIcon(@Nullable Drawable icon) {
-        final ImageView view = getContentLayout().getIconView();
-        if (icon == null) {
-            view.setVisibility(View.GONE);
-        } else {
-            view.setVisibility(View.VISIBLE);
-            view.setImageDrawable(icon);
-        }
+        checkNotRecycled();
+        contentLayout.setIcon(icon);
         return this;
     }
 
@@ -247,20 +632,76 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setIcon(@DrawableRes int iconId) {
-        return setIcon(ContextCompat.getDrawable(getContext(), iconId));
+        return setIcon(BannerbarDrawables.getIcon(getContext(), iconId));
     }
 
     /**
-     * Update the title in this {@link Bannerbar}.
+     * Update the icon in this {@link Bannerbar} with an image decoded in the background, downsampled to the size of
+     * the icon slot. Showing is not delayed, the slot is reserved and the icon fades in once decoded.
+     *
+     * @param iconUri The new icon for this {@link BaseTransientBottomBar}, any uri supported by {@link
+     *                android.content.ContentResolver#openInputStream(Uri)}.
+     */
+    @NonNull
+    public Bannerbar setIcon(@NonNull Uri iconUri) {
+        checkNotRecycled();
+        contentLayout.setIcon(iconUri);
+        return this;
+    }
+
+    /**
+     * Update the icon in this {@link Bannerbar} with an image file decoded in the background.
+     *
+     * @param iconFile The new icon for this {@link BaseTransientBottomBar}.
+     * @see #setIcon(Uri)
+     */
+    @NonNull
+    public Bannerbar setIcon(@NonNull File iconFile) {
+        return setIcon(Uri.fromFile(iconFile));
+    }
+
+    /**
+     * Update the title in this {@link Bannerbar}. The text may be a {@link PrecomputedTextCompat} created with the
+     * {@link TextViewCompat#getTextMetricsParams(TextView) params} of the title view.
      *
      * @param text The new title for this {@link BaseTransientBottomBar}.
      */
     @NonNull
     public Bannerbar setTitle(@Nullable CharSequence text) {
-        getContentLayout().getTitleView().setText(text);
+        checkNotRecycled();
+        cancel(pendingTitle);
+        pendingTitle = null;
+        contentLayout.setTitle(text);
+        showIfBound();
         return this;
     }
 
+    /**
+     * Update the title in this {@link Bannerbar} once its layout is precomputed on a background thread. If {@link
+     * #show()} is called in the meantime, this Bannerbar is shown right after the title is bound.
+     *
+     * @param text The new title for this {@link BaseTransientBottomBar}.
+     */
+    @NonNull
+    public Bannerbar setTitleAsync(@NonNull CharSequence text) {
+        checkNotRecycled();
+        cancel(pendingTitle);
+        pendingTitle = new PrecomputeTask(true, text, contentLayout.getTitleView());
+        BannerbarExecutors.background().execute(pendingTitle);
+        return this;
+    }
+
+    /**
+     * Update the title in this {@link Bannerbar} once its layout is precomputed on a background thread.
+     *
+     * @param textId The new title for this {@link BaseTransientBottomBar}.
+     * @see #setTitleAsync(CharSequence)
+     */
+    @NonNull
+    public Bannerbar setTitleAsync(@StringRes int textId) {
+        return setTitleAsync(getContext().getText(textId));
+    }
+
     /**
      * Update the title in this {@link Bannerbar}.
      *
@@ -278,16 +719,43 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setSubtitle(@Nullable CharSequence text) {
-        final TextView view = getContentLayout().getSubtitleView();
+        checkNotRecycled();
+        cancel(pendingSubtitle);
+        pendingSubtitle = null;
+        contentLayout.setSubtitle(text);
+        showIfBound();
+        return this;
+    }
+
+    /**
+     * Update the subtitle in this {@link Bannerbar} once its layout is precomputed on a background thread. If {@link
+     * #show()} is called in the meantime, this Bannerbar is shown right after the subtitle is bound.
+     *
+     * @param text The new subtitle for this {@link BaseTransientBottomBar}.
+     */
+    @NonNull
+    public Bannerbar setSubtitleAsync(@Nullable CharSequence text) {
+        checkNotRecycled();
         if (TextUtils.isEmpty(text)) {
-            view.setVisibility(View.GONE);
-        } else {
-            view.setVisibility(View.VISIBLE);
-            view.setText(text);
+            return setSubtitle(text);
         }
+        cancel(pendingSubtitle);
+        pendingSubtitle = new PrecomputeTask(false, text, contentLayout.getSubtitleView());
+        BannerbarExecutors.background().execute(pendingSubtitle);
         return this;
     }
 
+    /**
+     * Update the subtitle in this {@link Bannerbar} once its layout is precomputed on a background thread.
+     *
+     * @param textId The new subtitle for this {@link BaseTransientBottomBar}.
+     * @see #setSubtitleAsync(CharSequence)
+     */
+    @NonNull
+    public Bannerbar setSubtitleAsync(@StringRes int textId) {
+        return setSubtitleAsync(getContext().getText(textId));
+    }
+
     /**
      * Update the subtitle in this {@link Bannerbar}.
      *
@@ -305,26 +773,59 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      * @param listener callback to be invoked when the action is clicked
      */
     @NonNull
-    public Bannerbar addAction(@NonNull CharSequence text, @Nullable final View.OnClickListener listener) {
-        if (actionCount >= 2) {
+    public Bannerbar addAction(@NonNull CharSequence text, @Nullable View.OnClickListener listener) {
+        checkNotRecycled();
+        if (contentLayout.actionCount >= 2) {
             throw new UnsupportedOperationException("As explained in https://material.io/components/banners/#anatomy," +
                 "Banners can contain up to two text buttons.");
         }
-        final TextView view = actionCount++ == 0
-            ? getContentLayout().getActionView1()
-            : getContentLayout().getActionView2();
-        view.setVisibility(View.VISIBLE);
-        view.setText(text);
-        view.setOnClickListener(new View.OnClickListener() {
-            @Override
-            public void onClick(View view) {
-                if (listener != null) {
-                    listener.onClick(view);
-                }
-                // Now dismiss the Snackbar
-                dispatchDismiss(BaseCallback.DISMISS_EVENT_ACTION);
-            }
-        });
+        return setAction(contentLayout.actionCount, text, listener);
+    }
+
+    /**
+     * Replace the action at {@code index}, or add it when {@code index} equals the number of actions. Text is only
+     * updated when it changes, so this can be called on a shown {@link Bannerbar}.
+     *
+     * @param index    Position of the action, either 0 or 1
+     * @param text     Text to display for the action
+     * @param listener callback to be invoked when the action is clicked
+     */
+    @NonNull
+    public Bannerbar setAction(int index, @NonNull CharSequence text, @Nullable View.OnClickListener listener) {
+        checkNotRecycled();
+        if (index < 0 || index > contentLayout.actionCount || index >= 2) {
+            throw new IndexOutOfBoundsException("Action index " + index + " is out of bounds, there are "
+                + contentLayout.actionCount + " actions.");
+        }
+        contentLayout.setAction(index, text, listener);
+        return this;
+    }
+
+    /**
+     * Remove the action at {@code index}, the following action takes its place.
+     *
+     * @param index Position of the action, either 0 or 1
+     */
+    @NonNull
+    public Bannerbar removeAction(int index) {
+        checkNotRecycled();
+        if (index < 0 || index >= contentLayout.actionCount) {
+            throw new IndexOutOfBoundsException("Action index " + index + " is out of bounds, there are "
+                + contentLayout.actionCount + " actions.");
+        }
+        contentLayout.removeAction(index);
+        return this;
+    }
+
+    /**
+     * Remove all actions of this {@link Bannerbar}.
+     */
+    @NonNull
+    public Bannerbar clearActions() {
+        checkNotRecycled();
+        while (contentLayout.actionCount > 0) {
+            contentLayout.removeAction(contentLayout.actionCount - 1);
+        }
         return this;
     }
 
@@ -361,21 +862,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
 
     @Duration
     public int getDuration() {
-        int userSetDuration = super.getDuration();
-        if (userSetDuration == LENGTH_INDEFINITE) {
-            return LENGTH_INDEFINITE;
-        }
-
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
-            int controlsFlag = hasAction() ? FLAG_CONTENT_CONTROLS : 0;
-            return accessibilityManager.getRecommendedTimeoutMillis(
-                userSetDuration, controlsFlag | FLAG_CONTENT_ICONS | FLAG_CONTENT_TEXT);
-        }
-
-        // If touch exploration is enabled override duration to give people chance to interact.
-        return hasAction() && accessibilityManager.isTouchExplorationEnabled()
-            ? LENGTH_INDEFINITE
-            : userSetDuration;
+        return BannerbarDurations.getInstance(getContext()).get(super.getDuration(), hasAction());
     }
 
     /**
@@ -384,6 +871,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setTitleColor(@NonNull ColorStateList colors) {
+        checkNotRecycled();
         getContentLayout().getTitleView().setTextColor(colors);
         return this;
     }
@@ -394,6 +882,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setTitleColor(@ColorInt int color) {
+        checkNotRecycled();
         getContentLayout().getTitleView().setTextColor(color);
         return this;
     }
@@ -404,6 +893,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setSubtitleColor(@NonNull ColorStateList colors) {
+        checkNotRecycled();
         getContentLayout().getSubtitleView().setTextColor(colors);
         return this;
     }
@@ -414,6 +904,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setSubtitleColor(@ColorInt int color) {
+        checkNotRecycled();
         getContentLayout().getSubtitleView().setTextColor(color);
         return this;
     }
@@ -424,6 +915,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setActionsTextColor(@NonNull ColorStateList colors) {
+        checkNotRecycled();
         final BannerbarContentLayout layout = getContentLayout();
         layout.getActionView1().setTextColor(colors);
         layout.getActionView2().setTextColor(colors);
@@ -436,6 +928,7 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setActionsTextColor(@ColorInt int color) {
+        checkNotRecycled();
         final BannerbarContentLayout layout = getContentLayout();
         layout.getActionView1().setTextColor(color);
         layout.getActionView2().setTextColor(color);
@@ -447,6 +940,12 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setBackgroundTint(@ColorInt int color) {
+        final Drawable.ConstantState backgroundState = getBackgroundState();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP_MR1 && backgroundState != null) {
+            ViewCompat.setBackground(view,
+                BannerbarDrawables.getTinted(getContext().getResources(), backgroundState, color));
+            return this;
+        }
         Drawable background = view.getBackground();
         if (background != null) {
             background = background.mutate();
@@ -466,10 +965,72 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
      */
     @NonNull
     public Bannerbar setBackgroundTintList(@NonNull ColorStateList colorStateList) {
+        final Drawable.ConstantState backgroundState = getBackgroundState();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP_MR1 && backgroundState != null) {
+            ViewCompat.setBackground(view,
+                BannerbarDrawables.getTinted(getContext().getResources(), backgroundState, colorStateList));
+            return this;
+        }
         DrawableCompat.setTintList(view.getBackground().mutate(), colorStateList);
         return this;
     }
 
+    /**
+     * Current background, which may have been replaced since this bannerbar was made. Tinted variants are derived from
+     * it and shared with other bannerbars.
+     */
+    @Nullable
+    private Drawable.ConstantState getBackgroundState() {
+        final Drawable background = view.getBackground();
+        return background != null ? background.getConstantState() : null;
+    }
+
+    /**
+     * Set whether {@link #show()} shows right away or waits for the app to be idle. Urgent messages should keep the
+     * default {@link #SHOW_IMMEDIATELY}.
+     *
+     * @param showMode Either {@link #SHOW_IMMEDIATELY} or {@link #SHOW_WHEN_IDLE}.
+     */
+    @NonNull
+    public Bannerbar setShowMode(@ShowMode int showMode) {
+        this.showMode = showMode;
+        return this;
+    }
+
+    @ShowMode
+    public int getShowMode() {
+        return showMode;
+    }
+
+    /**
+     * Set how long {@link #SHOW_WHEN_IDLE} may wait, after which this {@link Bannerbar} is shown anyway.
+     *
+     * @param maxShowDelay Maximum delay in milliseconds.
+     */
+    @NonNull
+    public Bannerbar setMaxShowDelay(@IntRange(from = 0) long maxShowDelay) {
+        this.maxShowDelay = maxShowDelay;
+        return this;
+    }
+
+    public long getMaxShowDelay() {
+        return maxShowDelay;
+    }
+
+    /**
+     * Run the content fade on the same timing as the slide of this {@link Bannerbar}, rather than the shorter fade
+     * that starts once the slide is underway. Either way, every child fades together with a single animator.
+     *
+     * @param synced Whether content transitions should span the whole slide.
+     * @see BannerbarContentLayout#setContentProgress(float)
+     */
+    @NonNull
+    public Bannerbar setContentAnimationSynced(boolean synced) {
+        checkNotRecycled();
+        contentLayout.setAnimationSynced(synced);
+        return this;
+    }
+
     /**
      * Set a callback to be called when this the visibility of this {@link Bannerbar} changes. Note
      * that this method is deprecated and you should use {@link #addCallback(BaseCallback)} to add a
@@ -497,4 +1058,181 @@ public final class Bannerbar extends BaseTransientBottomBar<Bannerbar> {
         this.callback = callback;
         return this;
     }
+
+    private static void cancel(@Nullable PrecomputeTask task) {
+        if (task != null) {
+            task.isCancelled = true;
+        }
+    }
+
+    private void onPrecomputed(@NonNull PrecomputeTask task) {
+        final PrecomputedTextCompat result = task.result;
+        if (task.isTitle) {
+            pendingTitle = null;
+            if (result != null && task.canBind(contentLayout.getTitleView())) {
+                contentLayout.setTitle(result);
+            } else {
+                contentLayout.setTitle(task.text, result == null);
+            }
+        } else {
+            pendingSubtitle = null;
+            if (result != null && task.canBind(contentLayout.getSubtitleView())) {
+                contentLayout.setSubtitle(result);
+            } else {
+                contentLayout.setSubtitle(task.text, result == null);
+            }
+        }
+        showIfBound();
+    }
+
+    /**
+     * Shows this Bannerbar if {@link #show()} was deferred and no text is pending anymore, whether precomputed texts
+     * were bound or replaced.
+     */
+    private void showIfBound() {
+        if (isShowPending && pendingTitle == null && pendingSubtitle == null) {
+            isShowPending = false;
+            super.show();
+        }
+    }
+
+    /**
+     * Waits for the main looper to go idle with no scrolling in the window for {@link #QUIET_PERIOD}. The looper may
+     * go idle between frames of a fling, hence the quiet period.
+     */
+    private final class IdleShow implements MessageQueue.IdleHandler, ViewTreeObserver.OnScrollChangedListener,
+        Runnable {
+        private final Handler handler = BannerbarExecutors.mainThread();
+        private final Runnable timeout = new Runnable() {
+            @Override
+            public void run() {
+                finish();
+            }
+        };
+        @Nullable
+        private ViewTreeObserver observer;
+        private boolean isWaiting;
+        private long scrolledAt;
+
+        void start() {
+            if (isWaiting) {
+                return;
+            }
+            isWaiting = true;
+            // a fling already running goes idle between frames, require a whole quiet period first
+            scrolledAt = SystemClock.uptimeMillis();
+            observer = targetParent.getViewTreeObserver();
+            observer.addOnScrollChangedListener(this);
+            Looper.myQueue().addIdleHandler(this);
+            handler.postDelayed(timeout, maxShowDelay);
+        }
+
+        void cancel() {
+            if (!isWaiting) {
+                return;
+            }
+            isWaiting = false;
+            if (observer != null && observer.isAlive()) {
+                observer.removeOnScrollChangedListener(this);
+            }
+            observer = null;
+            Looper.myQueue().removeIdleHandler(this);
+            handler.removeCallbacks(this);
+            handler.removeCallbacks(timeout);
+        }
+
+        private void finish() {
+            cancel();
+            showWhenBound();
+        }
+
+        @Override
+        public boolean queueIdle() {
+            final long quietFor = SystemClock.uptimeMillis() - scrolledAt;
+            if (quietFor >= QUIET_PERIOD) {
+                finish();
+            } else {
+                // check again once the quiet period is over
+                handler.postDelayed(this, QUIET_PERIOD - quietFor);
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            Looper.myQueue().addIdleHandler(this);
+        }
+
+        @Override
+        public void onScrollChanged() {
+            scrolledAt = SystemClock.uptimeMillis();
+        }
+    }
+
+    /**
+     * Precomputes text on the background executor, then binds it on the main thread. Plain texts are precomputed into
+     * {@link BannerbarTextCache} and bound from it, only styled ones are kept as {@link #result}.
+     */
+    private final class PrecomputeTask implements Runnable {
+        final boolean isTitle;
+        final CharSequence text;
+        final PrecomputedTextCompat.Params params;
+        volatile boolean isCancelled;
+        volatile boolean isPrecomputed;
+        @Nullable
+        volatile PrecomputedTextCompat result;
+
+        PrecomputeTask(boolean isTitle, @NonNull CharSequence text, @NonNull TextView view) {
+            this.isTitle = isTitle;
+            this.text = text;
+            params = TextViewCompat.getTextMetricsParams(view);
+        }
+
+        /**
+         * Text appearance may have changed while precomputing, in which case the result no longer fits the view.
+         */
+        boolean canBind(@NonNull TextView view) {
+            return params.equals(TextViewCompat.getTextMetricsParams(view));
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled) {
+                return;
+            }
+            if (!isPrecomputed) {
+                if (text instanceof Spanned) {
+                    result = PrecomputedTextCompat.create(text, params);
+                } else {
+                    BannerbarTextCache.getInstance(getContext()).precompute(text.toString(), params);
+                }
+                isPrecomputed = true;
+                BannerbarExecutors.mainThread().post(this);
+            } else {
+                onPrecomputed(this);
+            }
+        }
+    }
+
+    /**
+     * Dismisses this Bannerbar once any action is clicked, and recycles its content once dismissed. A single object
+     * serves both so that a bannerbar allocates nothing per action.
+     */
+    private final class HostCallback extends BaseCallback<Bannerbar> implements Runnable, View.OnClickListener {
+        @Override
+        public void onClick(View view) {
+            // Now dismiss the Snackbar
+            dispatchDismiss(BaseCallback.DISMISS_EVENT_ACTION);
+        }
+
+        @Override
+        public void onDismissed(Bannerbar transientBottomBar, @DismissEvent int event) {
+            BannerbarExecutors.mainThread().post(this);
+        }
+
+        @Override
+        public void run() {
+            recycle();
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package com.google.android.material.snackbar;
+
+import android.content.Context;
+import android.text.TextUtils;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.hendraanggrian.material.bannerbar.R;
+
+import java.util.List;
+
+/**
+ * Shows {@link BannerbarSpec} as inline items of a {@link RecyclerView}, such as a banner at the top of a feed. The
+ * hosting adapter forwards creation and binding of its banner view type to this delegate:
+ * <pre>
+ * public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+ *     if (viewType == TYPE_BANNER) {
+ *         return delegate.onCreateViewHolder(parent);
+ *     }
+ *     ...
+ * }
+ *
+ * public void onBindViewHolder(RecyclerView.ViewHolder holder, int position, List&lt;Object&gt; payloads) {
+ *     if (holder instanceof BannerbarViewHolder) {
+ *         delegate.onBindViewHolder((BannerbarViewHolder) holder, getBanner(position), payloads);
+ *     }
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * <p>Lists diffed with {@link DiffUtil} should return {@link #getChangePayload(BannerbarSpec, BannerbarSpec)} from
+ * their item callback, so that a changed title or subtitle is bound alone.
+ */
+public final class BannerbarAdapterDelegate {
+
+    /**
+     * Flag of change payloads, the title changed.
+     */
+    public static final int PAYLOAD_TITLE = 1;
+    /**
+     * Flag of change payloads, the subtitle changed.
+     */
+    public static final int PAYLOAD_SUBTITLE = 1 << 1;
+
+    /**
+     * Interface definition for a callback invoked when an action of an inline banner is clicked.
+     */
+    public interface OnDismissListener {
+
+        /**
+         * Called after the listener of the clicked action, the banner should be removed from the adapter.
+         *
+         * @param holder Holder of the banner, its adapter position may be read.
+         * @param spec   Content of the banner.
+         */
+        void onDismiss(@NonNull BannerbarViewHolder holder, @NonNull BannerbarSpec spec);
+    }
+
+    @Nullable
+    private final OnDismissListener dismissListener;
+
+    public BannerbarAdapterDelegate() {
+        this(null);
+    }
+
+    /**
+     * @param dismissListener Notified when a banner should be removed, or null to keep banners after their actions.
+     */
+    public BannerbarAdapterDelegate(@Nullable OnDismissListener dismissListener) {
+        this.dismissListener = dismissListener;
+    }
+
+    @NonNull
+    public BannerbarViewHolder onCreateViewHolder(@NonNull ViewGroup parent) {
+        final Context context = parent.getContext();
+        final BannerbarContentLayout content = (BannerbarContentLayout) LayoutInflater.from(context)
+            .inflate(BannerbarResources.get(context).layoutId, parent, false);
+        content.setBackgroundResource(R.drawable.design_snackbar_background);
+        return new BannerbarViewHolder(content, dismissListener);
+    }
+
+    public void onBindViewHolder(@NonNull BannerbarViewHolder holder, @NonNull BannerbarSpec spec) {
+        holder.bind(spec);
+    }
+
+    /**
+     * Binds {@code spec}, or only the parts flagged by {@code payloads} when every payload comes from {@link
+     * #getChangePayload(BannerbarSpec, BannerbarSpec)}.
+     */
+    public void onBindViewHolder(
+        @NonNull BannerbarViewHolder holder,
+        @NonNull BannerbarSpec spec,
+        @NonNull List<Object> payloads
+    ) {
+        if (payloads.isEmpty() || holder.getSpec() == null) {
+            holder.bind(spec);
+            return;
+        }
+        int changes = 0;
+        for (int i = 0; i < payloads.size(); i++) {
+            final Object payload = payloads.get(i);
+            if (!(payload instanceof Integer)) {
+                holder.bind(spec);
+                return;
+            }
+            changes |= (Integer) payload;
+        }
+        holder.bind(spec, changes);
+    }
+
+    /**
+     * Returns the payload to bind {@code newSpec} over {@code oldSpec}, for {@link
+     * DiffUtil.ItemCallback#getChangePayload(Object, Object)} or {@link DiffUtil.Callback#getChangePayload(int,
+     * int)}. Null when more than the title and subtitle changed, in which case the item is bound in full.
+     */
+    @Nullable
+    public static Object getChangePayload(@NonNull BannerbarSpec oldSpec, @NonNull BannerbarSpec newSpec) {
+        if (!hasSameDecoration(oldSpec, newSpec)) {
+            return null;
+        }
+        int changes = 0;
+        if (!TextUtils.equals(oldSpec.getTitle(), newSpec.getTitle())) {
+            changes |= PAYLOAD_TITLE;
+        }
+        if (!TextUtils.equals(oldSpec.getSubtitle(), newSpec.getSubtitle())) {
+            changes |= PAYLOAD_SUBTITLE;
+        }
+        return changes != 0 ? changes : null;
+    }
+
+    /**
+     * Everything but title and subtitle, compared by identity as specs keep their instances.
+     */
+    private static boolean hasSameDecoration(@NonNull BannerbarSpec oldSpec, @NonNull BannerbarSpec newSpec) {
+        if (oldSpec.getIconState() != newSpec.getIconState()
+            || oldSpec.getActionCount() != newSpec.getActionCount()
+            || oldSpec.getTitleColor() != newSpec.getTitleColor()
+            || oldSpec.getSubtitleColor() != newSpec.getSubtitleColor()
+            || oldSpec.getActionsTextColor() != newSpec.getActionsTextColor()) {
+            return false;
+        }
+        for (int i = 0; i < oldSpec.getActionCount(); i++) {
+            if (!TextUtils.equals(oldSpec.getActionText(i), newSpec.getActionText(i))
+                || oldSpec.getActionListener(i) != newSpec.getActionListener(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
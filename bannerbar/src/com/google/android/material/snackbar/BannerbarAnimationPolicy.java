@@ -0,0 +1,217 @@
+package com.google.android.material.snackbar;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.WindowManager;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.core.app.ActivityManagerCompat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decides whether bannerbars run their full transitions or a cheaper one, where content appears and disappears with
+ * the bar instead of fading on top of its slide.
+ * <p>
+ * <p>In {@link #MODE_ADAPTIVE}, transitions are reduced on low-RAM devices and as soon as a content transition drops
+ * too many frames, as measured by {@link Choreographer}. Once reduced, the policy stays reduced until {@link
+ * #reset()} is called. The mode can also be forced either way. Methods should be called on the main thread.
+ */
+public final class BannerbarAnimationPolicy {
+
+    /**
+     * Run full transitions unless the device is low on RAM or transitions are dropping frames.
+     */
+    public static final int MODE_ADAPTIVE = 0;
+    /**
+     * Always run full transitions.
+     */
+    public static final int MODE_FULL = 1;
+    /**
+     * Always run reduced transitions.
+     */
+    public static final int MODE_REDUCED = 2;
+
+    @IntDef({MODE_ADAPTIVE, MODE_FULL, MODE_REDUCED})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Mode {
+    }
+
+    /**
+     * Listener notified whenever bannerbar transitions switch between full and reduced.
+     */
+    public interface OnModeChangedListener {
+        void onModeChanged(@NonNull BannerbarAnimationPolicy policy, boolean reduced);
+    }
+
+    /**
+     * A frame taking longer than this many frame intervals is counted as dropped.
+     */
+    static final float JANK_THRESHOLD = 1.5f;
+    /**
+     * Number of dropped frames within one transition that switches adaptive mode to reduced.
+     */
+    static final int JANK_LIMIT = 3;
+
+    @Nullable
+    private static BannerbarAnimationPolicy instance;
+
+    private final boolean isLowRamDevice;
+    private final List<OnModeChangedListener> listeners = new ArrayList<>();
+    @Nullable
+    private final FrameSampler sampler;
+
+    @Mode
+    private int mode = MODE_ADAPTIVE;
+    private boolean isDroppingFrames;
+    private int transitions;
+
+    private BannerbarAnimationPolicy(@NonNull Context context) {
+        final ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        isLowRamDevice = activityManager != null && ActivityManagerCompat.isLowRamDevice(activityManager);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            final WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+            final float refreshRate = windowManager != null ? windowManager.getDefaultDisplay().getRefreshRate() : 0f;
+            sampler = new FrameSampler(refreshRate > 0f ? refreshRate : 60f);
+        } else {
+            sampler = null;
+        }
+    }
+
+    @NonNull
+    public static BannerbarAnimationPolicy getInstance(@NonNull Context context) {
+        if (instance == null) {
+            instance = new BannerbarAnimationPolicy(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    @Mode
+    public int getMode() {
+        return mode;
+    }
+
+    /**
+     * Force transitions to be full or reduced, or let them adapt to the device.
+     */
+    public void setMode(@Mode int mode) {
+        final boolean wasReduced = isReduced();
+        this.mode = mode;
+        dispatchIfChanged(wasReduced);
+    }
+
+    /**
+     * Returns true if bannerbars currently run reduced transitions.
+     */
+    public boolean isReduced() {
+        switch (mode) {
+            case MODE_FULL:
+                return false;
+            case MODE_REDUCED:
+                return true;
+            default:
+                return isLowRamDevice || isDroppingFrames;
+        }
+    }
+
+    /**
+     * Forget frames dropped so far, giving full transitions another chance in {@link #MODE_ADAPTIVE}.
+     */
+    public void reset() {
+        final boolean wasReduced = isReduced();
+        isDroppingFrames = false;
+        dispatchIfChanged(wasReduced);
+    }
+
+    public void addOnModeChangedListener(@NonNull OnModeChangedListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeOnModeChangedListener(@NonNull OnModeChangedListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Called when a content transition starts, frames are sampled while any transition runs.
+     */
+    void onTransitionStart() {
+        if (sampler != null && transitions++ == 0 && mode == MODE_ADAPTIVE) {
+            sampler.start();
+        }
+    }
+
+    void onTransitionEnd() {
+        if (sampler == null || transitions == 0 || --transitions > 0) {
+            return;
+        }
+        final int droppedFrames = sampler.stop();
+        if (mode == MODE_ADAPTIVE && droppedFrames >= JANK_LIMIT && !isDroppingFrames) {
+            final boolean wasReduced = isReduced();
+            isDroppingFrames = true;
+            dispatchIfChanged(wasReduced);
+        }
+    }
+
+    private void dispatchIfChanged(boolean wasReduced) {
+        final boolean reduced = isReduced();
+        if (reduced != wasReduced) {
+            for (int i = listeners.size() - 1; i >= 0; i--) {
+                listeners.get(i).onModeChanged(this, reduced);
+            }
+        }
+    }
+
+    /**
+     * Counts frames that took noticeably longer than the display's frame interval.
+     */
+    @RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static final class FrameSampler implements Choreographer.FrameCallback {
+        private final long jankNanos;
+        private boolean isRunning;
+        private long lastFrameTimeNanos;
+        private int droppedFrames;
+
+        FrameSampler(float refreshRate) {
+            jankNanos = (long) (JANK_THRESHOLD * 1_000_000_000L / refreshRate);
+        }
+
+        void start() {
+            isRunning = true;
+            lastFrameTimeNanos = 0;
+            droppedFrames = 0;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        /**
+         * Returns the number of frames dropped since {@link #start()}, or 0 if it was not started.
+         */
+        int stop() {
+            if (!isRunning) {
+                return 0;
+            }
+            isRunning = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+            return droppedFrames;
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (!isRunning) {
+                return;
+            }
+            if (lastFrameTimeNanos != 0 && frameTimeNanos - lastFrameTimeNanos > jankNanos) {
+                droppedFrames++;
+            }
+            lastFrameTimeNanos = frameTimeNanos;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+}
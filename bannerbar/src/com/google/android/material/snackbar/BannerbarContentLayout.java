@@ -1,30 +1,109 @@
 package com.google.android.material.snackbar;
 
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
 import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable;
+import android.net.Uri;
+import android.text.Spanned;
+import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewStub;
 import android.widget.Button;
 import android.widget.ImageView;
-import android.widget.RelativeLayout;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.text.PrecomputedTextCompat;
 import androidx.core.view.ViewCompat;
+import androidx.core.widget.TextViewCompat;
 
+import com.google.android.material.animation.AnimationUtils;
 import com.google.android.material.color.MaterialColors;
 import com.hendraanggrian.material.bannerbar.R;
 
 /**
+ * Lays out the fixed anatomy of a banner in a single pass: icon at the start, title and subtitle next to it, and the
+ * action row across the bottom.
+ * <p>
+ * <p>Only the title is inflated with this layout. Icon, subtitle and actions are stubs inflated the first time they
+ * are needed, so that title-only banners skip them entirely.
+ *
  * @see com.google.android.material.snackbar.SnackbarContentLayout
  */
-public class BannerbarContentLayout extends RelativeLayout implements ContentViewCallback {
+public class BannerbarContentLayout extends ViewGroup implements ContentViewCallback {
+    private ViewStub iconStub;
+    private ViewStub subtitleStub;
+    private ViewStub actionsStub;
+
+    @Nullable
     private ImageView iconView;
     private TextView titleView;
+    @Nullable
     private TextView subtitleView;
+    @Nullable
+    private ViewGroup actionsView;
+    @Nullable
     private Button actionView1;
+    @Nullable
     private Button actionView2;
 
+    private ColorStateList titleTextColors;
+    @Nullable
+    private ColorStateList subtitleTextColors;
+    @Nullable
+    private ColorStateList actionTextColors1;
+    @Nullable
+    private ColorStateList actionTextColors2;
+    /**
+     * Inflated action colors layered over the surface, kept so that restoring them sets nothing when unchanged.
+     */
+    @Nullable
+    private ColorStateList layeredActionTextColors1;
+    @Nullable
+    private ColorStateList layeredActionTextColors2;
+    private float actionTextColorAlpha = 1f;
+    @Nullable
+    private BannerbarResources resources;
+
+    private final OnClickListener[] actionListeners = new OnClickListener[2];
+    int actionCount = 0;
+    @Nullable
+    private OnClickListener dismissListener;
+
+    /**
+     * Set once to both actions and kept across bannerbars, setting an action only stores its listener.
+     */
+    private final OnClickListener actionDispatcher = new OnClickListener() {
+        @Override
+        public void onClick(View view) {
+            final OnClickListener listener = actionListeners[getActionIndex(view)];
+            if (listener != null) {
+                listener.onClick(view);
+            }
+            if (dismissListener != null) {
+                dismissListener.onClick(view);
+            }
+        }
+    };
+
+    private int iconGeneration;
+    private int batchDepth;
+    private boolean isLayoutRequestedInBatch;
+
+    @Nullable
+    private ValueAnimator contentAnimator;
+    private boolean isAnimationSynced;
+
     public BannerbarContentLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -36,98 +115,687 @@ public class BannerbarContentLayout extends RelativeLayout implements ContentVie
     @Override
     protected void onFinishInflate() {
         super.onFinishInflate();
-        iconView = findViewById(R.id.bannerbar_icon);
+        iconStub = findViewById(R.id.bannerbar_icon_stub);
         titleView = findViewById(R.id.bannerbar_title);
-        subtitleView = findViewById(R.id.bannerbar_subtitle);
-        actionView1 = findViewById(R.id.bannerbar_action1);
-        actionView2 = findViewById(R.id.bannerbar_action2);
+        subtitleStub = findViewById(R.id.bannerbar_subtitle_stub);
+        actionsStub = findViewById(R.id.bannerbar_actions_stub);
+
+        // remember inflated state, restored when this layout is recycled
+        titleTextColors = titleView.getTextColors();
+        updatePadding();
     }
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
-        final int extraHorizontal = getResources().getDimensionPixelSize(R.dimen.design_snackbar_padding_horizontal);
-        final int defaultVertical =
-            getResources().getDimensionPixelSize(R.dimen.design_snackbar_padding_vertical_2lines);
-        final int shortVertical = getResources().getDimensionPixelSize(R.dimen.design_snackbar_padding_vertical);
+        int iconWidth = 0;
+        int iconHeight = 0;
+        if (isVisible(iconView)) {
+            measureChildWithMargins(iconView, widthMeasureSpec, 0, heightMeasureSpec, 0);
+            iconWidth = getMeasuredWidthWithMargins(iconView);
+            iconHeight = getMeasuredHeightWithMargins(iconView);
+        }
+
+        // title and subtitle share the column next to icon
+        int textHeight = 0;
+        if (titleView.getVisibility() != GONE) {
+            measureChildWithMargins(titleView, widthMeasureSpec, iconWidth, heightMeasureSpec, 0);
+            textHeight += getMeasuredHeightWithMargins(titleView);
+        }
+        if (isVisible(subtitleView)) {
+            measureChildWithMargins(subtitleView, widthMeasureSpec, iconWidth, heightMeasureSpec, textHeight);
+            textHeight += getMeasuredHeightWithMargins(subtitleView);
+        }
+
+        // action row spans the whole width right below texts, a taller icon may overlap it
+        if (isVisible(actionsView)) {
+            measureChildWithMargins(actionsView, widthMeasureSpec, 0, heightMeasureSpec, textHeight);
+            textHeight += getMeasuredHeightWithMargins(actionsView);
+        }
+        final int contentHeight = Math.max(iconHeight, textHeight);
+
+        final int width = MeasureSpec.getMode(widthMeasureSpec) == MeasureSpec.UNSPECIFIED
+            ? Math.max(iconWidth + getMaxTextWidth(), getMeasuredWidthWithMargins(actionsView))
+            + getPaddingLeft() + getPaddingRight()
+            : MeasureSpec.getSize(widthMeasureSpec);
+        setMeasuredDimension(
+            resolveSize(Math.max(width, getSuggestedMinimumWidth()), widthMeasureSpec),
+            resolveSize(
+                Math.max(contentHeight + getPaddingTop() + getPaddingBottom(), getSuggestedMinimumHeight()),
+                heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        final boolean isRtl = ViewCompat.getLayoutDirection(this) == ViewCompat.LAYOUT_DIRECTION_RTL;
+        final int start = getPaddingLeft();
+        final int end = r - l - getPaddingRight();
+        final int top = getPaddingTop();
+
+        int iconWidth = 0;
+        if (isVisible(iconView)) {
+            layoutChild(iconView, isRtl, start, end, top);
+            iconWidth = getMeasuredWidthWithMargins(iconView);
+        }
+
+        int textBottom = top;
+        if (titleView.getVisibility() != GONE) {
+            textBottom = layoutChild(titleView, isRtl, isRtl ? start : start + iconWidth,
+                isRtl ? end - iconWidth : end, textBottom);
+        }
+        if (isVisible(subtitleView)) {
+            textBottom = layoutChild(subtitleView, isRtl, isRtl ? start : start + iconWidth,
+                isRtl ? end - iconWidth : end, textBottom);
+        }
+
+        if (isVisible(actionsView)) {
+            layoutChild(actionsView, isRtl, start, end, textBottom);
+        }
+    }
+
+    /**
+     * Lays out a measured child at the start of horizontal bounds and returns its bottom, including margin.
+     */
+    private static int layoutChild(View child, boolean isRtl, int start, int end, int top) {
+        final MarginLayoutParams lp = (MarginLayoutParams) child.getLayoutParams();
+        final int width = child.getMeasuredWidth();
+        final int height = child.getMeasuredHeight();
+        final int left = isRtl ? end - lp.rightMargin - width : start + lp.leftMargin;
+        final int childTop = top + lp.topMargin;
+        child.layout(left, childTop, left + width, childTop + height);
+        return childTop + height + lp.bottomMargin;
+    }
+
+    private int getMaxTextWidth() {
+        return Math.max(getMeasuredWidthWithMargins(titleView), getMeasuredWidthWithMargins(subtitleView));
+    }
+
+    /**
+     * Returns true if {@code child} is inflated and not gone.
+     */
+    private static boolean isVisible(@Nullable View child) {
+        return child != null && child.getVisibility() != GONE;
+    }
+
+    private static int getMeasuredWidthWithMargins(@Nullable View child) {
+        if (!isVisible(child)) {
+            return 0;
+        }
+        final MarginLayoutParams lp = (MarginLayoutParams) child.getLayoutParams();
+        return child.getMeasuredWidth() + lp.leftMargin + lp.rightMargin;
+    }
+
+    private static int getMeasuredHeightWithMargins(View child) {
+        final MarginLayoutParams lp = (MarginLayoutParams) child.getLayoutParams();
+        return child.getMeasuredHeight() + lp.topMargin + lp.bottomMargin;
+    }
+
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        BannerbarResources.invalidate();
+        resources = null;
+        updatePadding();
+    }
+
+    @NonNull
+    BannerbarResources getBannerbarResources() {
+        if (resources == null) {
+            resources = BannerbarResources.get(this);
+        }
+        return resources;
+    }
+
+    /**
+     * Applies padding as content changes rather than when measured, since setting it requests another layout.
+     */
+    private void updatePadding() {
+        final BannerbarResources resources = getBannerbarResources();
+        final int extraHorizontal = resources.paddingHorizontal;
+        final int defaultVertical = resources.paddingVerticalTwoLines;
+        final int shortVertical = resources.paddingVertical;
 
         int horizontal = 0;
         int bottom = defaultVertical;
 
         // when an icon is not shown, apply horizontal padding to make it look more like a snackbar
-        if (iconView.getDrawable() == null) {
+        if (iconView == null || iconView.getDrawable() == null) {
             horizontal = extraHorizontal;
         }
 
         // when there are buttons, reduce bottom padding
-        if (actionView1.getVisibility() == VISIBLE || actionView2.getVisibility() == VISIBLE) {
+        if (actionCount > 0) {
             bottom = shortVertical;
         }
 
+        // only touch padding when it changes, as setting it requests another layout
         if (ViewCompat.isPaddingRelative(this)) {
-            ViewCompat.setPaddingRelative(this, horizontal, defaultVertical, horizontal, bottom);
-        } else {
+            if (ViewCompat.getPaddingStart(this) != horizontal || getPaddingTop() != defaultVertical
+                || ViewCompat.getPaddingEnd(this) != horizontal || getPaddingBottom() != bottom) {
+                ViewCompat.setPaddingRelative(this, horizontal, defaultVertical, horizontal, bottom);
+            }
+        } else if (getPaddingLeft() != horizontal || getPaddingTop() != defaultVertical
+            || getPaddingRight() != horizontal || getPaddingBottom() != bottom) {
             setPadding(horizontal, defaultVertical, horizontal, bottom);
         }
     }
 
+    @Override
+    public boolean shouldDelayChildPressedState() {
+        return false;
+    }
+
+    @Override
+    protected boolean checkLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof MarginLayoutParams;
+    }
+
+    @Override
+    public ViewGroup.LayoutParams generateLayoutParams(AttributeSet attrs) {
+        return new MarginLayoutParams(getContext(), attrs);
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateDefaultLayoutParams() {
+        return new MarginLayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof MarginLayoutParams
+            ? new MarginLayoutParams((MarginLayoutParams) p)
+            : new MarginLayoutParams(p);
+    }
+
+    /**
+     * Returns the icon view, inflating it if needed.
+     */
+    @NonNull
     public ImageView getIconView() {
+        if (iconView == null) {
+            iconView = (ImageView) iconStub.inflate();
+        }
         return iconView;
     }
 
+    @NonNull
     public TextView getTitleView() {
         return titleView;
     }
 
+    /**
+     * Returns the subtitle view, inflating it if needed.
+     */
+    @NonNull
     public TextView getSubtitleView() {
+        if (subtitleView == null) {
+            subtitleView = (TextView) subtitleStub.inflate();
+            subtitleTextColors = subtitleView.getTextColors();
+        }
         return subtitleView;
     }
 
+    /**
+     * Returns the first action view, inflating the action row if needed.
+     */
+    @NonNull
     public Button getActionView1() {
+        inflateActions();
         return actionView1;
     }
 
+    /**
+     * Returns the second action view, inflating the action row if needed.
+     */
+    @NonNull
     public Button getActionView2() {
+        inflateActions();
         return actionView2;
     }
 
+    private void inflateActions() {
+        if (actionsView != null) {
+            return;
+        }
+        actionsView = (ViewGroup) actionsStub.inflate();
+        actionView1 = actionsView.findViewById(R.id.bannerbar_action1);
+        actionView2 = actionsView.findViewById(R.id.bannerbar_action2);
+        actionTextColors1 = actionView1.getTextColors();
+        actionTextColors2 = actionView2.getTextColors();
+        actionView1.setOnClickListener(actionDispatcher);
+        actionView2.setOnClickListener(actionDispatcher);
+        layerActionTextColors();
+    }
+
+    /**
+     * Defers layout requests of this layout and its children until the matching {@link #endBatch()}, so that binding
+     * several views results in a single layout pass.
+     */
+    void beginBatch() {
+        batchDepth++;
+    }
+
+    void endBatch() {
+        if (--batchDepth == 0 && isLayoutRequestedInBatch) {
+            isLayoutRequestedInBatch = false;
+            requestLayout();
+        }
+    }
+
+    @Override
+    public void requestLayout() {
+        if (batchDepth > 0) {
+            isLayoutRequestedInBatch = true;
+            return;
+        }
+        super.requestLayout();
+    }
+
+    void setIcon(@Nullable Drawable icon) {
+        // a pending icon would override this one
+        iconGeneration++;
+        bindIcon(icon);
+    }
+
+    /**
+     * Loads icon from {@code uri} in the background. The icon slot is reserved with an empty placeholder in the
+     * meantime, and the icon fades in once decoded. Cached icons are bound right away.
+     */
+    void setIcon(@NonNull Uri uri) {
+        final int generation = ++iconGeneration;
+        final int size = getIconSize();
+        final BannerbarIconLoader loader = BannerbarIconLoader.getInstance(getContext());
+        final Bitmap cached = loader.get(uri, size);
+        if (cached != null) {
+            bindIcon(new BitmapDrawable(getResources(), cached));
+            return;
+        }
+        final GradientDrawable placeholder = new GradientDrawable();
+        placeholder.setSize(size, size);
+        bindIcon(placeholder);
+        loader.load(uri, size, new BannerbarIconLoader.Callback() {
+            @Override
+            public void onIconLoaded(@Nullable Bitmap bitmap) {
+                if (generation != iconGeneration) {
+                    return;
+                }
+                if (bitmap == null) {
+                    bindIcon(null);
+                    return;
+                }
+                bindIcon(new BitmapDrawable(getResources(), bitmap));
+                if (!BannerbarAnimationPolicy.getInstance(getContext()).isReduced()) {
+                    final ImageView view = getIconView();
+                    view.setAlpha(0f);
+                    view.animate().alpha(1f).setDuration(BaseTransientBottomBar.ANIMATION_FADE_DURATION).start();
+                }
+            }
+        });
+    }
+
+    /**
+     * Icon slot is as large as the icon view currently is, or the size of a banner avatar if not laid out yet.
+     */
+    private int getIconSize() {
+        final int width = iconView != null ? iconView.getWidth() : 0;
+        final int height = iconView != null ? iconView.getHeight() : 0;
+        return width > 0 && height > 0
+            ? Math.max(width, height)
+            : getResources().getDimensionPixelSize(R.dimen.design_bannerbar_icon_size);
+    }
+
+    private void bindIcon(@Nullable Drawable icon) {
+        if (icon == null && iconView == null) {
+            return;
+        }
+        final ImageView view = getIconView();
+        if (view.getDrawable() != icon) {
+            view.setImageDrawable(icon);
+        }
+        setVisible(view, icon != null);
+        updatePadding();
+    }
+
+    void setTitle(@Nullable CharSequence text) {
+        setTitle(text, false);
+    }
+
+    void setSubtitle(@Nullable CharSequence text) {
+        setSubtitle(text, false);
+    }
+
+    /**
+     * @param isPrecomputed true if {@code text} was just precomputed into {@link BannerbarTextCache}, which already
+     *                      counted it.
+     */
+    void setTitle(@Nullable CharSequence text, boolean isPrecomputed) {
+        setCachedTextIfChanged(titleView, text, isPrecomputed);
+    }
+
+    /**
+     * @param isPrecomputed true if {@code text} was just precomputed into {@link BannerbarTextCache}, which already
+     *                      counted it.
+     */
+    void setSubtitle(@Nullable CharSequence text, boolean isPrecomputed) {
+        if (TextUtils.isEmpty(text)) {
+            if (subtitleView != null) {
+                setVisible(subtitleView, false);
+            }
+        } else {
+            final TextView view = getSubtitleView();
+            setCachedTextIfChanged(view, text, isPrecomputed);
+            setVisible(view, true);
+        }
+    }
+
+    /**
+     * Replaces or appends action at {@code index}, which must not be greater than current {@link #actionCount}.
+     */
+    void setAction(int index, @NonNull CharSequence text, @Nullable OnClickListener listener) {
+        final Button view = getActionView(index);
+        setTextIfChanged(view, text);
+        actionListeners[index] = listener;
+        setVisible(view, true);
+        actionCount = Math.max(actionCount, index + 1);
+        updatePadding();
+    }
+
+    /**
+     * Removes action at {@code index}, shifting the next one in its place.
+     */
+    void removeAction(int index) {
+        for (int i = index; i < actionCount - 1; i++) {
+            final Button next = getActionView(i + 1);
+            setAction(i, next.getText(), actionListeners[i + 1]);
+        }
+        final Button last = getActionView(--actionCount);
+        actionListeners[actionCount] = null;
+        setVisible(last, false);
+        updatePadding();
+    }
+
+    /**
+     * Binds content of {@code spec} in a single layout pass, skipping the icon when it is already shown. Colors left
+     * unset by {@code spec} are restored to their inflated value, so that a content rebound from another spec does
+     * not keep its colors.
+     */
+    void bind(@NonNull BannerbarSpec spec) {
+        beginBatch();
+        try {
+            final Drawable icon = iconView != null ? iconView.getDrawable() : null;
+            if (icon == null || icon.getConstantState() != spec.getIconState()) {
+                setIcon(spec.newIcon());
+            }
+            setTitle(spec.getTitle());
+            setSubtitle(spec.getSubtitle());
+            final int count = spec.getActionCount();
+            for (int i = 0; i < count; i++) {
+                setAction(i, spec.getActionText(i), spec.getActionListener(i));
+            }
+            while (actionCount > count) {
+                removeAction(actionCount - 1);
+            }
+            setTextColorIfChanged(titleView, spec.getTitleColor() != null ? spec.getTitleColor() : titleTextColors);
+            if (spec.getSubtitleColor() != null) {
+                getSubtitleView().setTextColor(spec.getSubtitleColor());
+            } else if (subtitleView != null) {
+                setTextColorIfChanged(subtitleView, subtitleTextColors);
+            }
+            if (spec.getActionsTextColor() != null) {
+                getActionView1().setTextColor(spec.getActionsTextColor());
+                getActionView2().setTextColor(spec.getActionsTextColor());
+            } else if (actionsView != null) {
+                setTextColorIfChanged(actionView1,
+                    layeredActionTextColors1 != null ? layeredActionTextColors1 : actionTextColors1);
+                setTextColorIfChanged(actionView2,
+                    layeredActionTextColors2 != null ? layeredActionTextColors2 : actionTextColors2);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Sets the listener called after the listener of any action, to dismiss whatever holds this layout. Cleared when
+     * this layout is recycled.
+     */
+    void setDismissListener(@Nullable OnClickListener listener) {
+        dismissListener = listener;
+    }
+
+    private static int getActionIndex(@NonNull View actionView) {
+        return actionView.getId() == R.id.bannerbar_action2 ? 1 : 0;
+    }
+
+    @NonNull
+    private Button getActionView(int index) {
+        return index == 0 ? getActionView1() : getActionView2();
+    }
+
+    private static void setVisible(@NonNull View view, boolean visible) {
+        final int visibility = visible ? VISIBLE : GONE;
+        if (view.getVisibility() != visibility) {
+            view.setVisibility(visibility);
+        }
+    }
+
+    /**
+     * Binds plain texts precomputed by {@link BannerbarTextCache} if cached, the cached instance is already shown when
+     * the text has not changed. Texts are never precomputed here, on the main thread.
+     */
+    private void setCachedTextIfChanged(@NonNull TextView view, @Nullable CharSequence text, boolean isPrecomputed) {
+        if (TextUtils.isEmpty(text) || text instanceof Spanned) {
+            setTextIfChanged(view, text);
+            return;
+        }
+        final BannerbarTextCache cache = BannerbarTextCache.getInstance(getContext());
+        final boolean isCached = isPrecomputed
+            ? cache.bindPrecomputed(view, text.toString())
+            : cache.bind(view, text.toString());
+        if (!isCached) {
+            setTextIfChanged(view, text);
+        }
+    }
+
+    /**
+     * Setting the same text still relayouts {@link TextView}, skip it when nothing changed. Styled texts are always
+     * set since their spans may differ.
+     */
+    private static void setTextIfChanged(@NonNull TextView view, @Nullable CharSequence text) {
+        final CharSequence current = view.getText();
+        if (text instanceof PrecomputedTextCompat) {
+            TextViewCompat.setPrecomputedText(view, (PrecomputedTextCompat) text);
+        } else if (current != text
+            && (current instanceof Spanned || text instanceof Spanned || !TextUtils.equals(current, text))) {
+            view.setText(text);
+        }
+    }
+
+    /**
+     * Returns true if {@code other} shows the same title, subtitle and actions.
+     */
+    boolean hasSameContent(@NonNull BannerbarContentLayout other) {
+        return actionCount == other.actionCount
+            && TextUtils.equals(titleView.getText(), other.titleView.getText())
+            && TextUtils.equals(getVisibleText(subtitleView), getVisibleText(other.subtitleView))
+            && TextUtils.equals(getVisibleText(actionView1), getVisibleText(other.actionView1))
+            && TextUtils.equals(getVisibleText(actionView2), getVisibleText(other.actionView2));
+    }
+
+    @Nullable
+    private static CharSequence getVisibleText(@Nullable TextView view) {
+        return view != null && view.getVisibility() == VISIBLE ? view.getText() : null;
+    }
+
+    /**
+     * Clears content bound by {@link Bannerbar} and restores this layout to its inflated state, so that it can be
+     * attached to another bannerbar.
+     *
+     * @see BannerbarPool
+     */
+    void reset() {
+        if (contentAnimator != null) {
+            contentAnimator.cancel();
+        }
+        setContentProgress(1f);
+        isAnimationSynced = false;
+        iconGeneration++;
+        if (iconView != null) {
+            iconView.animate().cancel();
+            iconView.setAlpha(1f);
+            iconView.setImageDrawable(null);
+            iconView.setVisibility(GONE);
+        }
+        final BannerbarResources resources = getBannerbarResources();
+        resetText(titleView, titleTextColors, resources.isMaterial ? resources.emphasisHigh : 1f);
+        if (subtitleView != null) {
+            resetText(subtitleView, subtitleTextColors, resources.isMaterial ? resources.emphasisMedium : 1f);
+            subtitleView.setVisibility(GONE);
+        }
+        if (actionsView != null) {
+            resetText(actionView1, actionTextColors1, 1f);
+            resetText(actionView2, actionTextColors2, 1f);
+            actionView1.setVisibility(GONE);
+            actionView2.setVisibility(GONE);
+        }
+        actionListeners[0] = null;
+        actionListeners[1] = null;
+        dismissListener = null;
+        actionCount = 0;
+        actionTextColorAlpha = 1f;
+        layeredActionTextColors1 = null;
+        layeredActionTextColors2 = null;
+        updatePadding();
+    }
+
+    private static void setTextColorIfChanged(@NonNull TextView view, @NonNull ColorStateList colors) {
+        if (view.getTextColors() != colors) {
+            view.setTextColor(colors);
+        }
+    }
+
+    private static void resetText(TextView view, ColorStateList colors, float alpha) {
+        view.setAlpha(alpha);
+        view.setText(null);
+        view.setTextColor(colors);
+    }
+
+    /**
+     * Layers action text colors over the surface, actions inflated later are layered as soon as they are. Colors
+     * already layered with {@code actionTextColorAlpha} are left as is, so that a content can be rebound.
+     */
     void updateActionTextColorAlphaIfNeeded(float actionTextColorAlpha) {
-        if (actionTextColorAlpha != 1) {
-            updateActionTextColorAlpha(actionView1, actionTextColorAlpha);
-            updateActionTextColorAlpha(actionView2, actionTextColorAlpha);
+        if (this.actionTextColorAlpha == actionTextColorAlpha) {
+            return;
         }
+        this.actionTextColorAlpha = actionTextColorAlpha;
+        layerActionTextColors();
     }
 
-    private void updateActionTextColorAlpha(TextView actionView, float actionTextColorAlpha) {
-        int originalActionTextColor = actionView.getCurrentTextColor();
-        int colorSurface = MaterialColors.getColor(this, R.attr.colorSurface);
+    private void layerActionTextColors() {
+        if (actionsView == null || actionTextColorAlpha == 1) {
+            layeredActionTextColors1 = null;
+            layeredActionTextColors2 = null;
+            return;
+        }
+        layeredActionTextColors1 = layerActionTextColor(actionView1, actionTextColors1, actionTextColorAlpha);
+        layeredActionTextColors2 = layerActionTextColor(actionView2, actionTextColors2, actionTextColorAlpha);
+        actionView1.setTextColor(layeredActionTextColors1);
+        actionView2.setTextColor(layeredActionTextColors2);
+    }
+
+    /**
+     * Layers the inflated color of {@code actionView}, rather than its current one which may already be layered.
+     */
+    @NonNull
+    private ColorStateList layerActionTextColor(TextView actionView, ColorStateList inflated,
+                                                float actionTextColorAlpha) {
+        int originalActionTextColor = inflated.getColorForState(actionView.getDrawableState(),
+            inflated.getDefaultColor());
+        int colorSurface = getBannerbarResources().colorSurface;
         int actionTextColor = MaterialColors.layer(colorSurface, originalActionTextColor, actionTextColorAlpha);
-        actionView.setTextColor(actionTextColor);
+        return ColorStateList.valueOf(actionTextColor);
+    }
+
+    /**
+     * When synced, content fades in and out over the whole slide of {@link BaseTransientBottomBar} with the same
+     * interpolator, instead of the short fade that trails it.
+     */
+    void setAnimationSynced(boolean synced) {
+        isAnimationSynced = synced;
+    }
+
+    /**
+     * Sets how much of the content is visible during a transition, from 0 to 1. Transitions of {@link Bannerbar} drive
+     * this value, custom transitions may call it to keep content in step with their own timing.
+     */
+    public void setContentProgress(float progress) {
+        setAlpha(progress);
     }
 
     @Override
     public void animateContentIn(int delay, int duration) {
-        animateIn(subtitleView, delay, duration);
-        if (titleView.getVisibility() == VISIBLE) animateIn(titleView, delay, duration);
-        if (actionView1.getVisibility() == VISIBLE) animateIn(actionView1, delay, duration);
-        if (actionView2.getVisibility() == VISIBLE) animateIn(actionView2, delay, duration);
+        animateContent(0f, 1f, delay, duration);
     }
 
     @Override
     public void animateContentOut(int delay, int duration) {
-        animateOut(subtitleView, delay, duration);
-        if (titleView.getVisibility() == VISIBLE) animateOut(titleView, delay, duration);
-        if (actionView1.getVisibility() == VISIBLE) animateOut(actionView1, delay, duration);
-        if (actionView2.getVisibility() == VISIBLE) animateOut(actionView2, delay, duration);
+        animateContent(1f, 0f, delay, duration);
     }
 
-    private static void animateIn(View view, int delay, int duration) {
-        view.setAlpha(0f);
-        view.animate().alpha(1f).setDuration(duration).setStartDelay(delay).start();
-    }
+    /**
+     * Fades every child at once with a single animator, the content is drawn into a hardware layer for the length of
+     * the transition so that frames only composite it. Nothing is animated when {@link BannerbarAnimationPolicy}
+     * reduces transitions.
+     */
+    private void animateContent(float from, float to, int delay, int duration) {
+        if (BannerbarAnimationPolicy.getInstance(getContext()).isReduced()) {
+            // content goes along with the bar
+            if (contentAnimator != null) {
+                contentAnimator.cancel();
+            }
+            setContentProgress(to);
+            return;
+        }
+        if (contentAnimator == null) {
+            contentAnimator = new ValueAnimator();
+            contentAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+                @Override
+                public void onAnimationUpdate(ValueAnimator animator) {
+                    setContentProgress((float) animator.getAnimatedValue());
+                }
+            });
+            contentAnimator.addListener(new AnimatorListenerAdapter() {
+                private int previousLayerType;
+
+                @Override
+                public void onAnimationStart(Animator animator) {
+                    BannerbarAnimationPolicy.getInstance(getContext()).onTransitionStart();
+                    previousLayerType = getLayerType();
+                    if (isHardwareAccelerated()) {
+                        setLayerType(LAYER_TYPE_HARDWARE, null);
+                    }
+                }
 
-    private static void animateOut(View view, int delay, int duration) {
-        view.setAlpha(1f);
-        view.animate().alpha(0f).setDuration(duration).setStartDelay(delay).start();
+                @Override
+                public void onAnimationEnd(Animator animator) {
+                    setLayerType(previousLayerType, null);
+                    BannerbarAnimationPolicy.getInstance(getContext()).onTransitionEnd();
+                }
+            });
+        } else {
+            contentAnimator.cancel();
+        }
+        if (isAnimationSynced) {
+            contentAnimator.setStartDelay(0);
+            contentAnimator.setDuration(BaseTransientBottomBar.ANIMATION_DURATION);
+            contentAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
+        } else {
+            contentAnimator.setStartDelay(delay);
+            contentAnimator.setDuration(duration);
+            contentAnimator.setInterpolator(null);
+        }
+        contentAnimator.setFloatValues(from, to);
+        setContentProgress(from);
+        contentAnimator.start();
     }
-}
\ No newline at end of file
+}
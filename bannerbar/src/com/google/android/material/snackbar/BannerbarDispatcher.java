@@ -0,0 +1,218 @@
+package com.google.android.material.snackbar;
+
+import android.os.Build;
+import android.os.SystemClock;
+import android.view.Choreographer;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts bannerbar requests from any thread and shows them on the main thread, once per frame.
+ * <p>
+ * <p>Requests are collected in a lock-free queue, and at most one drain is scheduled on {@link Choreographer} at a
+ * time however many threads post. Within a frame, requests sharing the same key are merged and only the newest one is
+ * shown. When created with a {@link BannerbarQueue}, drained bannerbars are enqueued rather than shown directly.
+ * Without a queue, only the newest request of a frame is shown: {@link SnackbarManager} shows one bannerbar at a time,
+ * older ones would only be inflated to be dismissed right away.
+ * <p>
+ * <p>The dispatcher keeps a reference to its anchor view and should not outlive it, requests drained while the anchor
+ * is detached are discarded.
+ */
+public final class BannerbarDispatcher {
+
+    private final View anchor;
+    @Nullable
+    private final BannerbarQueue queue;
+
+    private final ConcurrentLinkedQueue<Request> requests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+    private final Map<Object, Request> frame = new LinkedHashMap<>();
+
+    private final Runnable scheduler = new Runnable() {
+        @Override
+        public void run() {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+                    @Override
+                    public void doFrame(long frameTimeNanos) {
+                        drain();
+                    }
+                });
+            } else {
+                drain();
+            }
+        }
+    };
+
+    private volatile int dispatchedCount;
+    private volatile int mergedCount;
+    private volatile int discardedCount;
+    private volatile long lastLatency;
+    private volatile long maxLatency;
+    private long totalLatency;
+    private int shownCount;
+
+    /**
+     * @param anchor The view to find a parent from, as in {@link Bannerbar#make(View, BannerbarSpec)}.
+     */
+    public BannerbarDispatcher(@NonNull View anchor) {
+        this(anchor, null);
+    }
+
+    /**
+     * @param anchor The view to find a parent from, as in {@link Bannerbar#make(View, BannerbarSpec)}.
+     * @param queue  Queue drained bannerbars are enqueued to, or null to show them directly.
+     */
+    public BannerbarDispatcher(@NonNull View anchor, @Nullable BannerbarQueue queue) {
+        this.anchor = anchor;
+        this.queue = queue;
+    }
+
+    /**
+     * Requests {@code spec} to be shown, merged with other requests of the same title. May be called from any thread.
+     */
+    public void post(@NonNull BannerbarSpec spec) {
+        post(spec.getTitle().toString(), spec, BannerbarQueue.PRIORITY_NORMAL);
+    }
+
+    /**
+     * Requests {@code spec} to be shown, replacing any request of the same {@code key} not yet drained. May be called
+     * from any thread.
+     *
+     * @param key      Identifies requests that supersede each other, like a notification id.
+     * @param spec     Content of the bannerbar.
+     * @param priority Priority given to {@link BannerbarQueue}, ignored without a queue.
+     */
+    public void post(@NonNull Object key, @NonNull BannerbarSpec spec, @BannerbarQueue.Priority int priority) {
+        requests.offer(new Request(key, spec, priority));
+        depth.incrementAndGet();
+        if (isScheduled.compareAndSet(false, true)) {
+            BannerbarExecutors.mainThread().post(scheduler);
+        }
+    }
+
+    /**
+     * Returns the number of requests posted but not drained yet.
+     */
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Returns the number of bannerbars made from drained requests.
+     */
+    public int getDispatchedCount() {
+        return dispatchedCount;
+    }
+
+    /**
+     * Returns the number of requests superseded by a newer one of the same key, or of the same frame when there is no
+     * queue.
+     */
+    public int getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * Returns the number of requests drained while the anchor was detached.
+     */
+    public int getDiscardedCount() {
+        return discardedCount;
+    }
+
+    /**
+     * Returns the time between posting and showing of the last shown request, in milliseconds. Latencies are measured
+     * when {@link Bannerbar.Callback#onShown(Bannerbar)} is called, they include the enter animation and, with a queue,
+     * the time spent waiting in it.
+     */
+    public long getLastLatency() {
+        return lastLatency;
+    }
+
+    /**
+     * Returns the longest time between posting and showing of a request, in milliseconds.
+     */
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * Returns the average time between posting and showing of requests, in milliseconds. Must be called on the main
+     * thread.
+     */
+    public long getAverageLatency() {
+        return shownCount > 0 ? totalLatency / shownCount : 0;
+    }
+
+    private void drain() {
+        // requests posted from now on schedule another frame
+        isScheduled.set(false);
+        Request request;
+        while ((request = requests.poll()) != null) {
+            depth.decrementAndGet();
+            if (frame.remove(request.key) != null) {
+                mergedCount++;
+            }
+            frame.put(request.key, request);
+        }
+        final boolean isAttached = ViewCompat.isAttachedToWindow(anchor);
+        int remaining = frame.size();
+        for (final Request pending : frame.values()) {
+            remaining--;
+            if (!isAttached) {
+                discardedCount++;
+                continue;
+            }
+            if (queue == null && remaining > 0) {
+                // would be dismissed as consecutive by the next one
+                mergedCount++;
+                continue;
+            }
+            final Bannerbar bannerbar = Bannerbar.make(anchor, pending.spec).addCallback(pending);
+            dispatchedCount++;
+            if (queue != null) {
+                queue.enqueue(bannerbar, pending.priority);
+            } else {
+                bannerbar.show();
+            }
+        }
+        frame.clear();
+    }
+
+    private void onShown(@NonNull Request request) {
+        final long latency = SystemClock.uptimeMillis() - request.postedAt;
+        lastLatency = latency;
+        maxLatency = Math.max(maxLatency, latency);
+        totalLatency += latency;
+        shownCount++;
+    }
+
+    private final class Request extends BaseTransientBottomBar.BaseCallback<Bannerbar> {
+        final Object key;
+        final BannerbarSpec spec;
+        final int priority;
+        final long postedAt = SystemClock.uptimeMillis();
+
+        Request(@NonNull Object key, @NonNull BannerbarSpec spec, @BannerbarQueue.Priority int priority) {
+            this.key = key;
+            this.spec = spec;
+            this.priority = priority;
+        }
+
+        @Override
+        public void onShown(Bannerbar transientBottomBar) {
+            transientBottomBar.removeCallback(this);
+            BannerbarDispatcher.this.onShown(this);
+        }
+    }
+}
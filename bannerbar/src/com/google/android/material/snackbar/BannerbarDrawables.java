@@ -0,0 +1,183 @@
+package com.google.android.material.snackbar;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.VectorDrawable;
+import android.os.Build;
+import android.util.SparseArray;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.content.res.AppCompatResources;
+import androidx.collection.LruCache;
+import androidx.core.graphics.drawable.DrawableCompat;
+import androidx.vectordrawable.graphics.drawable.VectorDrawableCompat;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Drawables shared between bannerbars through their {@link Drawable.ConstantState}: icons loaded from resources, with
+ * vectors rasterized once at their intrinsic size, and backgrounds already tinted with a given color.
+ * <p>
+ * <p>Icons are cached per theme since they may reference theme attributes. Everything is dropped when the
+ * configuration changes, as density and theme may have changed.
+ */
+final class BannerbarDrawables {
+
+    /**
+     * Tinted variants kept per background, beyond which the least recently used are dropped.
+     */
+    private static final int MAX_TINTS = 8;
+
+    private static final Map<Resources.Theme, SparseArray<Drawable.ConstantState>> ICONS = new WeakHashMap<>();
+    private static final Map<Drawable.ConstantState, LruCache<Object, Drawable.ConstantState>> TINTED_BACKGROUNDS =
+        new WeakHashMap<>();
+    /**
+     * Background each tinted variant was derived from, so that tinting a tinted background again reuses the variants
+     * of its source.
+     */
+    private static final Map<Drawable.ConstantState, WeakReference<Drawable.ConstantState>> TINT_SOURCES =
+        new WeakHashMap<>();
+    private static boolean isRegistered;
+
+    private BannerbarDrawables() {
+    }
+
+    /**
+     * Returns a new instance of icon {@code id} themed with {@code context}. May be called from any thread.
+     */
+    @Nullable
+    static synchronized Drawable getIcon(@NonNull Context context, @DrawableRes int id) {
+        register(context);
+        final Resources resources = context.getResources();
+        final Resources.Theme theme = context.getTheme();
+        SparseArray<Drawable.ConstantState> icons = ICONS.get(theme);
+        if (icons == null) {
+            icons = new SparseArray<>();
+            ICONS.put(theme, icons);
+        }
+        final Drawable.ConstantState state = icons.get(id);
+        if (state != null) {
+            return state.newDrawable(resources);
+        }
+        Drawable icon = AppCompatResources.getDrawable(context, id);
+        if (icon == null) {
+            return null;
+        }
+        if (isVector(icon) && !icon.isStateful()) {
+            icon = rasterize(resources, icon);
+        }
+        if (icon.getConstantState() != null) {
+            icons.put(id, icon.getConstantState());
+        }
+        return icon;
+    }
+
+    /**
+     * Returns a new instance of {@code background} tinted with {@code color}.
+     */
+    @NonNull
+    static Drawable getTinted(@NonNull Resources resources, @NonNull Drawable.ConstantState background,
+                              @ColorInt int color) {
+        return getTinted(resources, background, (Object) color);
+    }
+
+    /**
+     * Returns a new instance of {@code background} tinted with {@code colors}. Stateless colors share the variant of
+     * their default color, stateful ones are keyed by instance since {@link ColorStateList} has no equality.
+     */
+    @NonNull
+    static Drawable getTinted(@NonNull Resources resources, @NonNull Drawable.ConstantState background,
+                              @NonNull ColorStateList colors) {
+        return getTinted(resources, background, colors.isStateful() ? colors : (Object) colors.getDefaultColor());
+    }
+
+    private static synchronized Drawable getTinted(@NonNull Resources resources,
+                                                   @NonNull Drawable.ConstantState background,
+                                                   @NonNull Object tint) {
+        final WeakReference<Drawable.ConstantState> sourceRef = TINT_SOURCES.get(background);
+        final Drawable.ConstantState source = sourceRef != null ? sourceRef.get() : null;
+        if (source != null) {
+            background = source;
+        }
+        LruCache<Object, Drawable.ConstantState> variants = TINTED_BACKGROUNDS.get(background);
+        if (variants == null) {
+            variants = new LruCache<>(MAX_TINTS);
+            TINTED_BACKGROUNDS.put(background, variants);
+        }
+        final Drawable.ConstantState state = variants.get(tint);
+        if (state != null) {
+            return state.newDrawable(resources);
+        }
+        final Drawable drawable = background.newDrawable(resources).mutate();
+        if (tint instanceof ColorStateList) {
+            DrawableCompat.setTintList(drawable, (ColorStateList) tint);
+        } else {
+            DrawableCompat.setTint(drawable, (Integer) tint);
+        }
+        if (drawable.getConstantState() != null) {
+            variants.put(tint, drawable.getConstantState());
+            TINT_SOURCES.put(drawable.getConstantState(), new WeakReference<>(background));
+        }
+        return drawable;
+    }
+
+    static synchronized void clear() {
+        ICONS.clear();
+        TINTED_BACKGROUNDS.clear();
+        TINT_SOURCES.clear();
+    }
+
+    private static boolean isVector(@NonNull Drawable drawable) {
+        return drawable instanceof VectorDrawableCompat
+            || Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && drawable instanceof VectorDrawable;
+    }
+
+    /**
+     * Draws {@code drawable} once into a bitmap of its intrinsic size, which is the size {@code bannerbar_icon} wraps.
+     * The bitmap is mirrored in RTL layouts like the vector was.
+     */
+    @NonNull
+    private static Drawable rasterize(@NonNull Resources resources, @NonNull Drawable drawable) {
+        final int width = drawable.getIntrinsicWidth();
+        final int height = drawable.getIntrinsicHeight();
+        if (width <= 0 || height <= 0) {
+            return drawable;
+        }
+        final Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, width, height);
+        drawable.draw(new Canvas(bitmap));
+        final Drawable rasterized = new BitmapDrawable(resources, bitmap);
+        DrawableCompat.setAutoMirrored(rasterized, DrawableCompat.isAutoMirrored(drawable));
+        return rasterized;
+    }
+
+    private static void register(@NonNull Context context) {
+        if (isRegistered) {
+            return;
+        }
+        context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks() {
+            @Override
+            public void onConfigurationChanged(@NonNull Configuration newConfig) {
+                clear();
+            }
+
+            @Override
+            public void onLowMemory() {
+                clear();
+            }
+        });
+        isRegistered = true;
+    }
+}
@@ -0,0 +1,114 @@
+package com.google.android.material.snackbar;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.ContentObserver;
+import android.os.Build;
+import android.provider.Settings;
+import android.util.SparseIntArray;
+import android.view.accessibility.AccessibilityManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.accessibility.AccessibilityManagerCompat;
+
+import static android.view.accessibility.AccessibilityManager.FLAG_CONTENT_CONTROLS;
+import static android.view.accessibility.AccessibilityManager.FLAG_CONTENT_ICONS;
+import static android.view.accessibility.AccessibilityManager.FLAG_CONTENT_TEXT;
+import static com.google.android.material.snackbar.BaseTransientBottomBar.LENGTH_INDEFINITE;
+
+/**
+ * Durations of bannerbars adjusted to accessibility settings, resolved once per duration and kept until those settings
+ * change. {@link SnackbarManager} reads the duration on every show and every timeout reschedule, which otherwise would
+ * query {@link AccessibilityManager} each time.
+ * <p>
+ * <p>Must be used on the main thread, listeners are registered once per process.
+ */
+final class BannerbarDurations {
+
+    /**
+     * Secure settings behind {@link AccessibilityManager#getRecommendedTimeoutMillis(int, int)}, which has no listener.
+     */
+    private static final String INTERACTIVE_TIMEOUT = "accessibility_interactive_ui_timeout_ms";
+    private static final String NON_INTERACTIVE_TIMEOUT = "accessibility_non_interactive_ui_timeout_ms";
+
+    @Nullable
+    private static BannerbarDurations instance;
+
+    @NonNull
+    private final AccessibilityManager accessibilityManager;
+    private final SparseIntArray withAction = new SparseIntArray();
+    private final SparseIntArray withoutAction = new SparseIntArray();
+
+    private BannerbarDurations(@NonNull Context context) {
+        accessibilityManager = (AccessibilityManager) context.getSystemService(Context.ACCESSIBILITY_SERVICE);
+        accessibilityManager.addAccessibilityStateChangeListener(
+            new AccessibilityManager.AccessibilityStateChangeListener() {
+                @Override
+                public void onAccessibilityStateChanged(boolean enabled) {
+                    invalidate();
+                }
+            });
+        AccessibilityManagerCompat.addTouchExplorationStateChangeListener(accessibilityManager,
+            new AccessibilityManagerCompat.TouchExplorationStateChangeListener() {
+                @Override
+                public void onTouchExplorationStateChanged(boolean enabled) {
+                    invalidate();
+                }
+            });
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            final ContentResolver resolver = context.getContentResolver();
+            final ContentObserver observer = new ContentObserver(BannerbarExecutors.mainThread()) {
+                @Override
+                public void onChange(boolean selfChange) {
+                    invalidate();
+                }
+            };
+            resolver.registerContentObserver(Settings.Secure.getUriFor(INTERACTIVE_TIMEOUT), false, observer);
+            resolver.registerContentObserver(Settings.Secure.getUriFor(NON_INTERACTIVE_TIMEOUT), false, observer);
+        }
+    }
+
+    @NonNull
+    static BannerbarDurations getInstance(@NonNull Context context) {
+        if (instance == null) {
+            instance = new BannerbarDurations(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Returns {@code duration} as recommended by accessibility settings for a bannerbar with or without actions.
+     */
+    int get(int duration, boolean hasAction) {
+        if (duration == LENGTH_INDEFINITE) {
+            return LENGTH_INDEFINITE;
+        }
+        final SparseIntArray durations = hasAction ? withAction : withoutAction;
+        final int index = durations.indexOfKey(duration);
+        if (index >= 0) {
+            return durations.valueAt(index);
+        }
+        final int resolved = resolve(duration, hasAction);
+        durations.put(duration, resolved);
+        return resolved;
+    }
+
+    private int resolve(int duration, boolean hasAction) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            int controlsFlag = hasAction ? FLAG_CONTENT_CONTROLS : 0;
+            return accessibilityManager.getRecommendedTimeoutMillis(
+                duration, controlsFlag | FLAG_CONTENT_ICONS | FLAG_CONTENT_TEXT);
+        }
+
+        // If touch exploration is enabled override duration to give people chance to interact.
+        return hasAction && accessibilityManager.isTouchExplorationEnabled()
+            ? LENGTH_INDEFINITE
+            : duration;
+    }
+
+    void invalidate() {
+        withAction.clear();
+        withoutAction.clear();
+    }
+}
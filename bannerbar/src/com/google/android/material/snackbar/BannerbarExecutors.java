@@ -0,0 +1,69 @@
+package com.google.android.material.snackbar;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads shared by every {@link Bannerbar}.
+ */
+final class BannerbarExecutors {
+
+    private static final Handler MAIN_THREAD = new Handler(Looper.getMainLooper());
+    private static final long KEEP_ALIVE_SECONDS = 10;
+
+    private static volatile Executor background;
+
+    private BannerbarExecutors() {
+    }
+
+    /**
+     * Handler of the main thread, used to schedule work after the current view event has finished.
+     */
+    @NonNull
+    static Handler mainThread() {
+        return MAIN_THREAD;
+    }
+
+    /**
+     * Single low priority thread for work that can be moved off the main thread, like text layout. The thread is
+     * started on demand and stopped after being idle for a while.
+     */
+    @NonNull
+    static Executor background() {
+        if (background == null) {
+            synchronized (BannerbarExecutors.class) {
+                if (background == null) {
+                    final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                        KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<Runnable>(),
+                        new ThreadFactory() {
+                            @Override
+                            public Thread newThread(@NonNull final Runnable runnable) {
+                                final Thread thread = new Thread(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                                        runnable.run();
+                                    }
+                                }, "bannerbar-background");
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+                    executor.allowCoreThreadTimeOut(true);
+                    background = executor;
+                }
+            }
+        }
+        return background;
+    }
+}
@@ -0,0 +1,121 @@
+package com.google.android.material.snackbar;
+
+import android.os.IBinder;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.view.ViewCompat;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Resolves the parent holding a {@link Bannerbar} from any view of its hierarchy. Resolved parents are remembered per
+ * view, weakly, until either the view or the parent is detached from its window. A view moved to another parent is
+ * detached first, so its cached parent is always one of its ancestors.
+ * <p>
+ * Cache is keyed by the given view rather than its window: a window may contain several {@link CoordinatorLayout},
+ * each being the right parent for a different part of the hierarchy.
+ */
+final class BannerbarHosts {
+
+    private static final Map<View, WeakReference<ViewGroup>> HOSTS = new WeakHashMap<>();
+    private static final Map<View, Boolean> WATCHED_VIEWS = new WeakHashMap<>();
+
+    /**
+     * Watches both views and their hosts.
+     */
+    private static final View.OnAttachStateChangeListener INVALIDATOR = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View view) {
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View view) {
+            view.removeOnAttachStateChangeListener(this);
+            WATCHED_VIEWS.remove(view);
+            HOSTS.remove(view);
+            final Iterator<WeakReference<ViewGroup>> iterator = HOSTS.values().iterator();
+            while (iterator.hasNext()) {
+                final ViewGroup cached = iterator.next().get();
+                if (cached == null || cached == view) {
+                    iterator.remove();
+                }
+            }
+        }
+    };
+
+    private BannerbarHosts() {
+    }
+
+    /**
+     * Returns a {@link CoordinatorLayout} or the window decor's content view holding {@code view}, whichever comes
+     * first. Must be called on the main thread.
+     */
+    @Nullable
+    static ViewGroup find(@NonNull View view) {
+        final WeakReference<ViewGroup> reference = HOSTS.get(view);
+        final ViewGroup cached = reference != null ? reference.get() : null;
+        if (cached != null && isInSameWindow(view, cached)) {
+            return cached;
+        }
+
+        final ViewGroup host = findSuitableParent(view);
+        if (host != null && isInSameWindow(view, host)) {
+            HOSTS.put(view, new WeakReference<>(host));
+            watch(view);
+            watch(host);
+        }
+        return host;
+    }
+
+    private static void watch(@NonNull View view) {
+        if (WATCHED_VIEWS.put(view, Boolean.TRUE) == null) {
+            view.addOnAttachStateChangeListener(INVALIDATOR);
+        }
+    }
+
+    /**
+     * Only attached views are cached, as detached ones may be moved to another hierarchy.
+     */
+    private static boolean isInSameWindow(@NonNull View view, @NonNull ViewGroup host) {
+        final IBinder token = view.getWindowToken();
+        return token != null && token == host.getWindowToken() && ViewCompat.isAttachedToWindow(host);
+    }
+
+    @Nullable
+    static ViewGroup findSuitableParent(View view) {
+        ViewGroup fallback = null;
+        do {
+            if (view instanceof CoordinatorLayout) {
+                // We've found a CoordinatorLayout, use it
+                return (ViewGroup) view;
+            } else if (view instanceof FrameLayout) {
+                if (view.getId() == android.R.id.content) {
+                    // If we've hit the decor content view, then we didn't find a CoL in the
+                    // hierarchy, so use it.
+                    return (ViewGroup) view;
+                } else {
+                    // It's not the content view but we'll use it as our fallback
+                    fallback = (ViewGroup) view;
+                }
+            }
+
+            if (view != null) {
+                // Else, we will loop and crawl up the view hierarchy and try to find a parent
+                final ViewParent parent = view.getParent();
+                view = parent instanceof View ? (View) parent : null;
+            }
+        } while (view != null);
+
+        // If we reach here then we didn't find a CoL or a suitable content view so we'll fallback
+        return fallback;
+    }
+}
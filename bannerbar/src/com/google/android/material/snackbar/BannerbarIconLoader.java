@@ -0,0 +1,178 @@
+package com.google.android.material.snackbar;
+
+import android.content.ComponentCallbacks2;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes icons from {@link Uri} on the background executor, downsampled to the size they are displayed at, and keeps
+ * decoded bitmaps in a cache bounded by their byte count. The cache is trimmed when the system asks for memory.
+ */
+final class BannerbarIconLoader implements ComponentCallbacks2 {
+
+    private static final String TAG = "BannerbarIconLoader";
+
+    /**
+     * Fraction of the heap the cache may use, icons are small and only a few are shown per session.
+     */
+    private static final int HEAP_FRACTION = 32;
+
+    interface Callback {
+
+        /**
+         * Called on the main thread with the decoded icon, or null if it could not be decoded.
+         */
+        void onIconLoaded(@Nullable Bitmap bitmap);
+    }
+
+    @Nullable
+    private static BannerbarIconLoader instance;
+
+    private final ContentResolver resolver;
+    private final LruCache<String, Bitmap> cache =
+        new LruCache<String, Bitmap>((int) (Runtime.getRuntime().maxMemory() / HEAP_FRACTION)) {
+            @Override
+            protected int sizeOf(@NonNull String key, @NonNull Bitmap value) {
+                return value.getRowBytes() * value.getHeight();
+            }
+        };
+
+    private BannerbarIconLoader(@NonNull Context context) {
+        resolver = context.getContentResolver();
+    }
+
+    @NonNull
+    static BannerbarIconLoader getInstance(@NonNull Context context) {
+        if (instance == null) {
+            instance = new BannerbarIconLoader(context.getApplicationContext());
+            context.getApplicationContext().registerComponentCallbacks(instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the icon decoded from {@code uri} for {@code size}, or null if it is not cached.
+     */
+    @Nullable
+    Bitmap get(@NonNull Uri uri, int size) {
+        return cache.get(getKey(uri, size));
+    }
+
+    /**
+     * Decodes {@code uri} on the background executor to fit a square of {@code size}, then notifies {@code callback}
+     * on the main thread.
+     */
+    void load(@NonNull final Uri uri, final int size, @NonNull final Callback callback) {
+        BannerbarExecutors.background().execute(new Runnable() {
+            @Override
+            public void run() {
+                final String key = getKey(uri, size);
+                Bitmap bitmap = cache.get(key);
+                if (bitmap == null) {
+                    bitmap = decode(uri, size);
+                    if (bitmap != null) {
+                        cache.put(key, bitmap);
+                    }
+                }
+                final Bitmap result = bitmap;
+                BannerbarExecutors.mainThread().post(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onIconLoaded(result);
+                    }
+                });
+            }
+        });
+    }
+
+    @Nullable
+    private Bitmap decode(@NonNull Uri uri, int size) {
+        try {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            decodeStream(uri, options);
+            if (options.outWidth <= 0 || options.outHeight <= 0) {
+                return null;
+            }
+            options.inSampleSize = getSampleSize(options.outWidth, options.outHeight, size);
+            options.inJustDecodeBounds = false;
+            final Bitmap bitmap = decodeStream(uri, options);
+            if (bitmap == null) {
+                return null;
+            }
+            // sampling only divides by powers of two, scale the rest of the way
+            final int maxSide = Math.max(bitmap.getWidth(), bitmap.getHeight());
+            if (maxSide <= size) {
+                return bitmap;
+            }
+            final float scale = (float) size / maxSide;
+            return Bitmap.createScaledBitmap(bitmap,
+                Math.max(1, Math.round(bitmap.getWidth() * scale)),
+                Math.max(1, Math.round(bitmap.getHeight() * scale)),
+                true);
+        } catch (IOException | SecurityException e) {
+            Log.w(TAG, "Unable to decode icon " + uri, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private Bitmap decodeStream(@NonNull Uri uri, @NonNull BitmapFactory.Options options) throws IOException {
+        final InputStream stream = resolver.openInputStream(uri);
+        if (stream == null) {
+            return null;
+        }
+        try {
+            return BitmapFactory.decodeStream(stream, null, options);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Largest power of two that keeps the larger side of the decoded bitmap at least {@code size}.
+     */
+    private static int getSampleSize(int width, int height, int size) {
+        int sampleSize = 1;
+        final int maxSide = Math.max(width, height);
+        while (maxSide / (sampleSize * 2) >= size) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    @NonNull
+    private static String getKey(@NonNull Uri uri, int size) {
+        return uri.toString() + '#' + size;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_BACKGROUND) {
+            cache.evictAll();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            cache.trimToSize(cache.size() / 2);
+        }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
+    @Override
+    public void onLowMemory() {
+        cache.evictAll();
+    }
+}
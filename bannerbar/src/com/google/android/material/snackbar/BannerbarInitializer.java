@@ -0,0 +1,58 @@
+package com.google.android.material.snackbar;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.startup.Initializer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Optional androidx Startup initializer that calls {@link Bannerbar#prewarm(Context, int)} for every created activity.
+ * It is not registered by default, declare it in the application manifest to opt in:
+ *
+ * <pre>
+ * &lt;provider
+ *     android:name="androidx.startup.InitializationProvider"
+ *     android:authorities="${applicationId}.androidx-startup"
+ *     android:exported="false"
+ *     tools:node="merge"&gt;
+ *     &lt;meta-data
+ *         android:name="com.google.android.material.snackbar.BannerbarInitializer"
+ *         android:value="androidx.startup" /&gt;
+ * &lt;/provider&gt;
+ * </pre>
+ */
+public final class BannerbarInitializer implements Initializer<Void> {
+
+    /**
+     * Number of content layouts inflated for each activity.
+     */
+    private static final int PREWARM_COUNT = 1;
+
+    @Nullable
+    @Override
+    public Void create(@NonNull Context context) {
+        final Context application = context.getApplicationContext();
+        if (application instanceof Application) {
+            ((Application) application).registerActivityLifecycleCallbacks(new ActivityLifecycleCallbacksAdapter() {
+                @Override
+                public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+                    Bannerbar.prewarm(activity, PREWARM_COUNT);
+                }
+            });
+        }
+        return null;
+    }
+
+    @NonNull
+    @Override
+    public List<Class<? extends Initializer<?>>> dependencies() {
+        return Collections.emptyList();
+    }
+}
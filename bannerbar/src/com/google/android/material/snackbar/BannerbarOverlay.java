@@ -0,0 +1,97 @@
+package com.google.android.material.snackbar;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.view.ViewCompat;
+
+import com.hendraanggrian.material.bannerbar.R;
+
+/**
+ * Layer above the window decor's content view holding overlay bannerbars, see {@link Bannerbar#makeOverlay(View,
+ * CharSequence, int)}.
+ * <p>
+ * <p>The layer always matches its parent, so adding, removing or resizing bannerbars never changes its own size. Once
+ * laid out, it acts as a layout boundary: layout requests of its children are not propagated up, the layer measures and
+ * lays out itself on the next frame instead. The app's views, including {@link CoordinatorLayout} and its dependents,
+ * are left untouched.
+ */
+final class BannerbarOverlay extends FrameLayout {
+
+    private boolean isLayoutScheduled;
+
+    private final Runnable layoutSelf = new Runnable() {
+        @Override
+        public void run() {
+            isLayoutScheduled = false;
+            if (!isLayoutRequested() || getWidth() == 0 || getHeight() == 0) {
+                return;
+            }
+            measure(
+                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
+            layout(getLeft(), getTop(), getRight(), getBottom());
+            invalidate();
+        }
+    };
+
+    private BannerbarOverlay(@NonNull Context context) {
+        super(context);
+        setId(R.id.bannerbar_overlay);
+    }
+
+    /**
+     * Returns the overlay of the window holding {@code view}, adding it on the first call. Must be called on the main
+     * thread.
+     */
+    @Nullable
+    static ViewGroup find(@NonNull View view) {
+        final ViewGroup content = findContent(view);
+        if (content == null) {
+            return null;
+        }
+        ViewGroup overlay = content.findViewById(R.id.bannerbar_overlay);
+        if (overlay == null) {
+            overlay = new BannerbarOverlay(content.getContext());
+            content.addView(overlay, new ViewGroup.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT));
+            ViewCompat.requestApplyInsets(overlay);
+        } else if (content.indexOfChild(overlay) != content.getChildCount() - 1) {
+            // views added to the content view since would be drawn above bannerbars
+            overlay.bringToFront();
+        }
+        return overlay;
+    }
+
+    @Nullable
+    private static ViewGroup findContent(@NonNull View view) {
+        final View content = view.getRootView().findViewById(android.R.id.content);
+        return content instanceof ViewGroup ? (ViewGroup) content : null;
+    }
+
+    @Override
+    public void requestLayout() {
+        if (!ViewCompat.isLaidOut(this) || getParent() == null || getParent().isLayoutRequested()) {
+            super.requestLayout();
+            return;
+        }
+        forceLayout();
+        if (!isLayoutScheduled) {
+            isLayoutScheduled = true;
+            ViewCompat.postOnAnimation(this, layoutSelf);
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        removeCallbacks(layoutSelf);
+        isLayoutScheduled = false;
+    }
+}
@@ -0,0 +1,199 @@
+package com.google.android.material.snackbar;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Configuration;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.widget.FrameLayout;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Bounded pool of inflated {@link BannerbarContentLayout}, grouped by the context they are inflated with and the
+ * layout variant selected by {@link Snackbar#hasSnackbarButtonStyleAttr(Context)}.
+ * <p>
+ * Pooled views keep a reference to their context, so a group is dropped as soon as its activity is destroyed. The
+ * whole pool is trimmed when the system is low on memory and emptied on configuration change, since views inflated
+ * against previous resources would be stale.
+ */
+final class BannerbarPool implements ComponentCallbacks2 {
+
+    /**
+     * Maximum number of idle content layouts kept for each context and layout variant.
+     */
+    static final int MAX_SIZE = 3;
+
+    @Nullable
+    private static BannerbarPool instance;
+
+    private final Map<Context, SparseArray<ArrayDeque<BannerbarContentLayout>>> pools = new HashMap<>();
+
+    private final Application.ActivityLifecycleCallbacks lifecycleCallbacks =
+        new ActivityLifecycleCallbacksAdapter() {
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                removeAll(activity);
+            }
+        };
+
+    private BannerbarPool() {
+    }
+
+    @NonNull
+    static BannerbarPool getInstance(@NonNull Context context) {
+        if (instance == null) {
+            instance = new BannerbarPool();
+            final Context application = context.getApplicationContext();
+            application.registerComponentCallbacks(instance);
+            if (application instanceof Application) {
+                ((Application) application).registerActivityLifecycleCallbacks(instance.lifecycleCallbacks);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns an idle content layout previously inflated from {@code layoutId} with {@code context}, or null when
+     * there is none and the caller has to inflate it.
+     */
+    @Nullable
+    BannerbarContentLayout acquire(@NonNull Context context, @LayoutRes int layoutId) {
+        final SparseArray<ArrayDeque<BannerbarContentLayout>> variants = pools.get(context);
+        if (variants == null) {
+            return null;
+        }
+        final ArrayDeque<BannerbarContentLayout> pool = variants.get(layoutId);
+        return pool != null ? pool.pollFirst() : null;
+    }
+
+    /**
+     * Resets detached {@code content} and keeps it for the next {@link #acquire(Context, int)}, unless the pool of its
+     * variant is already full.
+     */
+    void release(@NonNull Context context, @LayoutRes int layoutId, @NonNull BannerbarContentLayout content) {
+        final ArrayDeque<BannerbarContentLayout> pool = getPool(context, layoutId);
+        if (pool.size() < MAX_SIZE) {
+            content.reset();
+            pool.addFirst(content);
+        }
+    }
+
+    /**
+     * Inflates up to {@code count} content layouts for {@code context} while the main thread is idle, one layout per
+     * idle pass. May be called from any thread.
+     */
+    static void prewarm(@NonNull final Context context, final int count) {
+        BannerbarExecutors.mainThread().post(new Runnable() {
+            @Override
+            public void run() {
+                Looper.myQueue().addIdleHandler(new Prewarmer(context, Math.min(count, MAX_SIZE)));
+            }
+        });
+    }
+
+    @NonNull
+    private ArrayDeque<BannerbarContentLayout> getPool(@NonNull Context context, @LayoutRes int layoutId) {
+        SparseArray<ArrayDeque<BannerbarContentLayout>> variants = pools.get(context);
+        if (variants == null) {
+            variants = new SparseArray<>(2);
+            pools.put(context, variants);
+        }
+        ArrayDeque<BannerbarContentLayout> pool = variants.get(layoutId);
+        if (pool == null) {
+            pool = new ArrayDeque<>(MAX_SIZE);
+            variants.put(layoutId, pool);
+        }
+        return pool;
+    }
+
+    void clear() {
+        pools.clear();
+    }
+
+    private void trimToSize(int size) {
+        for (final SparseArray<ArrayDeque<BannerbarContentLayout>> variants : pools.values()) {
+            for (int i = 0; i < variants.size(); i++) {
+                final ArrayDeque<BannerbarContentLayout> pool = variants.valueAt(i);
+                while (pool.size() > size) {
+                    pool.pollLast();
+                }
+            }
+        }
+    }
+
+    private void removeAll(@NonNull Activity activity) {
+        final Iterator<Context> iterator = pools.keySet().iterator();
+        while (iterator.hasNext()) {
+            Context context = iterator.next();
+            while (context != activity && context instanceof ContextWrapper && !(context instanceof Activity)) {
+                context = ((ContextWrapper) context).getBaseContext();
+            }
+            if (context == activity) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            clear();
+        } else {
+            trimToSize(1);
+        }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        clear();
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    private static final class Prewarmer implements MessageQueue.IdleHandler {
+        private final Context context;
+        private final int count;
+        @Nullable
+        private FrameLayout root;
+
+        Prewarmer(@NonNull Context context, int count) {
+            this.context = context;
+            this.count = count;
+        }
+
+        @Override
+        public boolean queueIdle() {
+            if (context instanceof Activity && ((Activity) context).isFinishing()) {
+                return false;
+            }
+            // resolving resources is part of the warm-up, make() will find them cached
+            final int layoutId = BannerbarResources.get(context).layoutId;
+            final ArrayDeque<BannerbarContentLayout> pool = getInstance(context).getPool(context, layoutId);
+            if (pool.size() >= count) {
+                return false;
+            }
+            if (root == null) {
+                // only used to generate layout params of the inflated content
+                root = new FrameLayout(context);
+            }
+            pool.addLast((BannerbarContentLayout) LayoutInflater.from(context).inflate(layoutId, root, false));
+            return pool.size() < count;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.google.android.material.snackbar;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.IntDef;
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+
+/**
+ * Shows {@link Bannerbar} one after another, instead of letting them interrupt each other with {@link
+ * BaseTransientBottomBar.BaseCallback#DISMISS_EVENT_CONSECUTIVE}.
+ * <p>
+ * <p>Pending bannerbars are ordered by priority. A pending bannerbar identical to one already pending or showing
+ * (same title, subtitle and actions) is merged into it, and the lowest priority one is dropped once the queue is full.
+ * Shows are limited by a token bucket. A showing bannerbar is dismissed in favor of a pending one of equal or higher
+ * priority, other than {@link #PRIORITY_LOW}, but only after it has been visible for the minimum display time.
+ * <p>
+ * <p>Merged and dropped bannerbars are never shown, their callbacks are notified with {@link
+ * Bannerbar.Callback#DISMISS_EVENT_CONSECUTIVE} as if replaced by another bannerbar, then their content is recycled.
+ * All methods must be called on the main thread.
+ */
+public final class BannerbarQueue {
+
+    @IntDef({PRIORITY_LOW, PRIORITY_NORMAL, PRIORITY_HIGH})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Priority {
+    }
+
+    /**
+     * Shown when nothing else is pending, never interrupts other bannerbars.
+     */
+    public static final int PRIORITY_LOW = 0;
+    /**
+     * Default priority of {@link #enqueue(Bannerbar)}.
+     */
+    public static final int PRIORITY_NORMAL = 1;
+    /**
+     * Shown before any other pending bannerbar.
+     */
+    public static final int PRIORITY_HIGH = 2;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final long DEFAULT_MIN_DISPLAY_TIME = 2000;
+    private static final float DEFAULT_SHOWS_PER_SECOND = 1f;
+    private static final int DEFAULT_BURST = 3;
+
+    private final Handler handler = BannerbarExecutors.mainThread();
+    private final ArrayList<Entry> pending = new ArrayList<>();
+    private final Runnable scheduler = new Runnable() {
+        @Override
+        public void run() {
+            schedule();
+        }
+    };
+
+    @Nullable
+    private Entry current;
+    private long currentShownAt;
+
+    private int capacity = DEFAULT_CAPACITY;
+    private long minDisplayTime = DEFAULT_MIN_DISPLAY_TIME;
+    private double tokensPerMillis = DEFAULT_SHOWS_PER_SECOND / 1000d;
+    private int burst = DEFAULT_BURST;
+    private double tokens = DEFAULT_BURST;
+    private long refilledAt = SystemClock.uptimeMillis();
+
+    private int shownCount;
+    private int mergedCount;
+    private int droppedCount;
+
+    /**
+     * Sets how many bannerbars may be pending, the lowest priority ones are dropped beyond it.
+     */
+    @NonNull
+    public BannerbarQueue setCapacity(@IntRange(from = 1) int capacity) {
+        this.capacity = capacity;
+        while (pending.size() > capacity) {
+            drop(pending.size() - 1);
+        }
+        return this;
+    }
+
+    /**
+     * Sets how long, in milliseconds, a bannerbar stays visible before a pending one can replace it.
+     */
+    @NonNull
+    public BannerbarQueue setMinDisplayTime(@IntRange(from = 0) long minDisplayTime) {
+        this.minDisplayTime = minDisplayTime;
+        schedule();
+        return this;
+    }
+
+    /**
+     * Limits shows to {@code showsPerSecond} on average, allowing bursts of up to {@code burst} shows.
+     */
+    @NonNull
+    public BannerbarQueue setRateLimit(
+        @FloatRange(from = 0, fromInclusive = false) float showsPerSecond,
+        @IntRange(from = 1) int burst
+    ) {
+        refill(SystemClock.uptimeMillis());
+        tokensPerMillis = showsPerSecond / 1000d;
+        this.burst = burst;
+        tokens = Math.min(tokens, burst);
+        schedule();
+        return this;
+    }
+
+    /**
+     * Shows {@code bannerbar} with {@link #PRIORITY_NORMAL} as soon as the queue allows it.
+     * Do not call {@link Bannerbar#show()} on it.
+     */
+    @NonNull
+    public BannerbarQueue enqueue(@NonNull Bannerbar bannerbar) {
+        return enqueue(bannerbar, PRIORITY_NORMAL);
+    }
+
+    /**
+     * Shows {@code bannerbar} as soon as the queue allows it. Do not call {@link Bannerbar#show()} on it.
+     */
+    @NonNull
+    public BannerbarQueue enqueue(@NonNull Bannerbar bannerbar, @Priority int priority) {
+        final BannerbarContentLayout content = bannerbar.getContentLayout();
+        if (current != null && current.bannerbar.getContentLayout().hasSameContent(content)) {
+            merge(bannerbar);
+            return this;
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            final Entry entry = pending.get(i);
+            if (entry.bannerbar.getContentLayout().hasSameContent(content)) {
+                merge(bannerbar);
+                if (priority > entry.priority) {
+                    pending.remove(i);
+                    entry.priority = priority;
+                    insert(entry);
+                    schedule();
+                }
+                return this;
+            }
+        }
+
+        insert(new Entry(bannerbar, priority));
+        if (pending.size() > capacity) {
+            drop(pending.size() - 1);
+        }
+        schedule();
+        return this;
+    }
+
+    /**
+     * Drops every pending bannerbar, the one currently showing is left untouched.
+     */
+    public void clear() {
+        while (!pending.isEmpty()) {
+            drop(pending.size() - 1);
+        }
+        handler.removeCallbacks(scheduler);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns how many bannerbars have been shown by this queue.
+     */
+    public int getShownCount() {
+        return shownCount;
+    }
+
+    /**
+     * Returns how many enqueued bannerbars were identical to a pending or showing one.
+     */
+    public int getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * Returns how many pending bannerbars were dropped, because the queue was full or cleared.
+     */
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void insert(@NonNull Entry entry) {
+        int index = 0;
+        while (index < pending.size() && pending.get(index).priority >= entry.priority) {
+            index++;
+        }
+        pending.add(index, entry);
+    }
+
+    private void merge(@NonNull Bannerbar bannerbar) {
+        mergedCount++;
+        bannerbar.discard(Bannerbar.Callback.DISMISS_EVENT_CONSECUTIVE);
+    }
+
+    private void drop(int index) {
+        droppedCount++;
+        pending.remove(index).bannerbar.discard(Bannerbar.Callback.DISMISS_EVENT_CONSECUTIVE);
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerMillis);
+        refilledAt = now;
+    }
+
+    private void schedule() {
+        handler.removeCallbacks(scheduler);
+        if (pending.isEmpty()) {
+            return;
+        }
+        final long now = SystemClock.uptimeMillis();
+        if (current != null) {
+            // wait for it to be shown, or to time out if nothing pending may replace it
+            final int priority = pending.get(0).priority;
+            if (currentShownAt == 0 || priority < current.priority || priority == PRIORITY_LOW) {
+                return;
+            }
+            final long remaining = currentShownAt + minDisplayTime - now;
+            if (remaining > 0) {
+                handler.postDelayed(scheduler, remaining);
+            } else {
+                current.bannerbar.dismiss();
+            }
+            return;
+        }
+
+        refill(now);
+        if (tokens < 1) {
+            handler.postDelayed(scheduler, (long) Math.ceil((1 - tokens) / tokensPerMillis));
+            return;
+        }
+        tokens--;
+        current = pending.remove(0);
+        currentShownAt = 0;
+        current.bannerbar.addCallback(current);
+        current.bannerbar.show();
+        shownCount++;
+    }
+
+    private final class Entry extends BaseTransientBottomBar.BaseCallback<Bannerbar> {
+        final Bannerbar bannerbar;
+        int priority;
+
+        Entry(@NonNull Bannerbar bannerbar, @Priority int priority) {
+            this.bannerbar = bannerbar;
+            this.priority = priority;
+        }
+
+        @Override
+        public void onShown(Bannerbar transientBottomBar) {
+            if (current == this) {
+                currentShownAt = SystemClock.uptimeMillis();
+                schedule();
+            }
+        }
+
+        @Override
+        public void onDismissed(Bannerbar transientBottomBar, @DismissEvent int event) {
+            transientBottomBar.removeCallback(this);
+            if (current == this) {
+                current = null;
+                currentShownAt = 0;
+            }
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.google.android.material.snackbar;
+
+import android.app.Activity;
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.hendraanggrian.material.bannerbar.R;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.google.android.material.snackbar.Snackbar.hasSnackbarButtonStyleAttr;
+
+/**
+ * Resolved dimensions, theme colors and emphasis alphas of bannerbars hosted in the same theme. A snapshot is
+ * computed once per theme and shared by every {@link Bannerbar} and {@link BannerbarContentLayout}, all snapshots
+ * are dropped when the configuration changes.
+ */
+final class BannerbarResources {
+
+    private static final Map<Resources.Theme, BannerbarResources> CACHE = new WeakHashMap<>();
+    private static boolean isRegistered;
+
+    /**
+     * Content layout variant, depending on whether the theme declares {@code snackbarButtonStyle}.
+     */
+    @LayoutRes
+    final int layoutId;
+    final boolean isMaterial;
+
+    final int paddingHorizontal;
+    final int paddingVertical;
+    final int paddingVerticalTwoLines;
+
+    @ColorInt
+    final int colorSurface;
+    final float emphasisHigh;
+    final float emphasisMedium;
+    /**
+     * Alpha of action texts layered over the surface, as {@link SnackbarBaseLayout} reads it from {@code
+     * snackbarStyle}. Used where contents are hosted outside of a {@link Bannerbar}.
+     */
+    final float actionTextColorAlpha;
+
+    private BannerbarResources(@NonNull Context context) {
+        final Resources resources = context.getResources();
+        isMaterial = hasSnackbarButtonStyleAttr(context);
+        layoutId = isMaterial
+            ? R.layout.mtrl_layout_bannerbar_include
+            : R.layout.design_layout_bannerbar_include;
+
+        paddingHorizontal = resources.getDimensionPixelSize(R.dimen.design_snackbar_padding_horizontal);
+        paddingVertical = resources.getDimensionPixelSize(R.dimen.design_snackbar_padding_vertical);
+        paddingVerticalTwoLines = resources.getDimensionPixelSize(R.dimen.design_snackbar_padding_vertical_2lines);
+
+        // content layouts are inflated with this overlay, resolve colors against it
+        final TypedValue value = new TypedValue();
+        final Context overlay = new ContextThemeWrapper(context, R.style.ThemeOverlay_AppCompat_Dark);
+        colorSurface = overlay.getTheme().resolveAttribute(R.attr.colorSurface, value, true) ? value.data : 0;
+        resources.getValue(R.dimen.material_emphasis_high_type, value, true);
+        emphasisHigh = value.getFloat();
+        resources.getValue(R.dimen.material_emphasis_medium, value, true);
+        emphasisMedium = value.getFloat();
+
+        final TypedArray a = context.obtainStyledAttributes(null, R.styleable.SnackbarLayout, R.attr.snackbarStyle, 0);
+        actionTextColorAlpha = a.getFloat(R.styleable.SnackbarLayout_actionTextColorAlpha, 1f);
+        a.recycle();
+    }
+
+    /**
+     * Returns snapshot of the theme {@code context} hosts bannerbars with.
+     */
+    @NonNull
+    static synchronized BannerbarResources get(@NonNull Context context) {
+        if (!isRegistered) {
+            context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks() {
+                @Override
+                public void onConfigurationChanged(@NonNull Configuration newConfig) {
+                    invalidate();
+                }
+
+                @Override
+                public void onLowMemory() {
+                }
+            });
+            isRegistered = true;
+        }
+        final Resources.Theme theme = context.getTheme();
+        BannerbarResources resources = CACHE.get(theme);
+        if (resources == null) {
+            resources = new BannerbarResources(context);
+            CACHE.put(theme, resources);
+        }
+        return resources;
+    }
+
+    /**
+     * Returns snapshot of the context {@code content} was inflated with, content layouts have a theme overlay
+     * wrapping their host context.
+     */
+    @NonNull
+    static BannerbarResources get(@NonNull BannerbarContentLayout content) {
+        final Context context = content.getContext();
+        return get(context instanceof ContextWrapper && !(context instanceof Activity)
+            ? getBaseContext((ContextWrapper) context)
+            : context);
+    }
+
+    static synchronized void invalidate() {
+        CACHE.clear();
+    }
+
+    @NonNull
+    private static Context getBaseContext(@NonNull ContextWrapper wrapper) {
+        @Nullable final Context base = wrapper.getBaseContext();
+        return base != null ? base : wrapper;
+    }
+}
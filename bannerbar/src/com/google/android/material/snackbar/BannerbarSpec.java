@@ -0,0 +1,329 @@
+package com.google.android.material.snackbar;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.graphics.drawable.Drawable;
+import android.text.Spanned;
+import android.text.SpannedString;
+import android.view.View;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StringRes;
+
+import static com.google.android.material.snackbar.BaseTransientBottomBar.LENGTH_SHORT;
+
+/**
+ * Immutable description of a {@link Bannerbar}, bound in a single pass with {@link Bannerbar#make(View,
+ * BannerbarSpec)} or {@link Bannerbar#apply(BannerbarSpec)}.
+ * <p>
+ * <p>Specs are built with {@link Builder}, which resolves strings, colors and drawables eagerly. Building may
+ * happen on any thread and a built spec may be shared between threads.
+ */
+public final class BannerbarSpec {
+
+    @Nullable
+    private final Drawable.ConstantState icon;
+    @NonNull
+    private final CharSequence title;
+    @Nullable
+    private final CharSequence subtitle;
+    @NonNull
+    private final CharSequence[] actionTexts;
+    @NonNull
+    private final View.OnClickListener[] actionListeners;
+    @Nullable
+    private final ColorStateList titleColor;
+    @Nullable
+    private final ColorStateList subtitleColor;
+    @Nullable
+    private final ColorStateList actionsTextColor;
+    @Nullable
+    private final ColorStateList backgroundTint;
+    @BaseTransientBottomBar.Duration
+    private final int duration;
+
+    BannerbarSpec(@NonNull Builder builder) {
+        icon = builder.icon;
+        title = builder.title;
+        subtitle = builder.subtitle;
+        actionTexts = new CharSequence[builder.actionCount];
+        actionListeners = new View.OnClickListener[builder.actionCount];
+        System.arraycopy(builder.actionTexts, 0, actionTexts, 0, builder.actionCount);
+        System.arraycopy(builder.actionListeners, 0, actionListeners, 0, builder.actionCount);
+        titleColor = builder.titleColor;
+        subtitleColor = builder.subtitleColor;
+        actionsTextColor = builder.actionsTextColor;
+        backgroundTint = builder.backgroundTint;
+        duration = builder.duration;
+    }
+
+    /**
+     * Returns a new instance of the icon, or null if there is none. Every call creates a separate drawable since
+     * drawables may not be shared between views.
+     */
+    @Nullable
+    public Drawable newIcon() {
+        return icon != null ? icon.newDrawable() : null;
+    }
+
+    @Nullable
+    Drawable.ConstantState getIconState() {
+        return icon;
+    }
+
+    @NonNull
+    public CharSequence getTitle() {
+        return title;
+    }
+
+    @Nullable
+    public CharSequence getSubtitle() {
+        return subtitle;
+    }
+
+    /**
+     * Returns the number of actions, up to two.
+     */
+    public int getActionCount() {
+        return actionTexts.length;
+    }
+
+    @NonNull
+    public CharSequence getActionText(int index) {
+        return actionTexts[index];
+    }
+
+    @Nullable
+    public View.OnClickListener getActionListener(int index) {
+        return actionListeners[index];
+    }
+
+    @Nullable
+    public ColorStateList getTitleColor() {
+        return titleColor;
+    }
+
+    @Nullable
+    public ColorStateList getSubtitleColor() {
+        return subtitleColor;
+    }
+
+    @Nullable
+    public ColorStateList getActionsTextColor() {
+        return actionsTextColor;
+    }
+
+    @Nullable
+    public ColorStateList getBackgroundTint() {
+        return backgroundTint;
+    }
+
+    @BaseTransientBottomBar.Duration
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns a builder initialized with the values of this spec, resolving further resources with {@code context}.
+     */
+    @NonNull
+    public Builder buildUpon(@NonNull Context context) {
+        final Builder builder = new Builder(context);
+        builder.icon = icon;
+        builder.title = title;
+        builder.subtitle = subtitle;
+        builder.actionCount = actionTexts.length;
+        System.arraycopy(actionTexts, 0, builder.actionTexts, 0, actionTexts.length);
+        System.arraycopy(actionListeners, 0, builder.actionListeners, 0, actionListeners.length);
+        builder.titleColor = titleColor;
+        builder.subtitleColor = subtitleColor;
+        builder.actionsTextColor = actionsTextColor;
+        builder.backgroundTint = backgroundTint;
+        builder.duration = duration;
+        return builder;
+    }
+
+    /**
+     * Builder of {@link BannerbarSpec}. A builder is not thread-safe, but it may be used on any single thread.
+     */
+    public static final class Builder {
+        @NonNull
+        private final Context context;
+
+        @Nullable
+        Drawable.ConstantState icon;
+        @NonNull
+        CharSequence title = "";
+        @Nullable
+        CharSequence subtitle;
+        final CharSequence[] actionTexts = new CharSequence[2];
+        final View.OnClickListener[] actionListeners = new View.OnClickListener[2];
+        int actionCount;
+        @Nullable
+        ColorStateList titleColor;
+        @Nullable
+        ColorStateList subtitleColor;
+        @Nullable
+        ColorStateList actionsTextColor;
+        @Nullable
+        ColorStateList backgroundTint;
+        @BaseTransientBottomBar.Duration
+        int duration = LENGTH_SHORT;
+
+        /**
+         * @param context The context resources are resolved with, should be themed like the bannerbar's host.
+         */
+        public Builder(@NonNull Context context) {
+            this.context = context;
+        }
+
+        /**
+         * Sets the icon, drawables without a constant state cannot be shared and are rejected.
+         */
+        @NonNull
+        public Builder setIcon(@Nullable Drawable icon) {
+            if (icon == null) {
+                this.icon = null;
+                return this;
+            }
+            final Drawable.ConstantState state = icon.getConstantState();
+            if (state == null) {
+                throw new IllegalArgumentException("Icon " + icon + " cannot be shared between bannerbars.");
+            }
+            this.icon = state;
+            return this;
+        }
+
+        @NonNull
+        public Builder setIcon(@DrawableRes int iconId) {
+            return setIcon(BannerbarDrawables.getIcon(context, iconId));
+        }
+
+        @NonNull
+        public Builder setTitle(@NonNull CharSequence text) {
+            title = freeze(text);
+            return this;
+        }
+
+        @NonNull
+        public Builder setTitle(@StringRes int textId) {
+            return setTitle(context.getText(textId));
+        }
+
+        @NonNull
+        public Builder setSubtitle(@Nullable CharSequence text) {
+            subtitle = text != null ? freeze(text) : null;
+            return this;
+        }
+
+        @NonNull
+        public Builder setSubtitle(@StringRes int textId) {
+            return setSubtitle(context.getText(textId));
+        }
+
+        /**
+         * Add the action to be displayed, up to two actions.
+         *
+         * @param text     Text to display for the action
+         * @param listener callback to be invoked when the action is clicked
+         */
+        @NonNull
+        public Builder addAction(@NonNull CharSequence text, @Nullable View.OnClickListener listener) {
+            if (actionCount >= 2) {
+                throw new UnsupportedOperationException("As explained in https://material.io/components/banners/#anatomy," +
+                    "Banners can contain up to two text buttons.");
+            }
+            actionTexts[actionCount] = freeze(text);
+            actionListeners[actionCount] = listener;
+            actionCount++;
+            return this;
+        }
+
+        @NonNull
+        public Builder addAction(@StringRes int textId, @Nullable View.OnClickListener listener) {
+            return addAction(context.getText(textId), listener);
+        }
+
+        @NonNull
+        public Builder clearActions() {
+            actionTexts[0] = actionTexts[1] = null;
+            actionListeners[0] = actionListeners[1] = null;
+            actionCount = 0;
+            return this;
+        }
+
+        @NonNull
+        public Builder setTitleColor(@Nullable ColorStateList colors) {
+            titleColor = colors;
+            return this;
+        }
+
+        @NonNull
+        public Builder setTitleColor(@ColorInt int color) {
+            return setTitleColor(ColorStateList.valueOf(color));
+        }
+
+        @NonNull
+        public Builder setSubtitleColor(@Nullable ColorStateList colors) {
+            subtitleColor = colors;
+            return this;
+        }
+
+        @NonNull
+        public Builder setSubtitleColor(@ColorInt int color) {
+            return setSubtitleColor(ColorStateList.valueOf(color));
+        }
+
+        @NonNull
+        public Builder setActionsTextColor(@Nullable ColorStateList colors) {
+            actionsTextColor = colors;
+            return this;
+        }
+
+        @NonNull
+        public Builder setActionsTextColor(@ColorInt int color) {
+            return setActionsTextColor(ColorStateList.valueOf(color));
+        }
+
+        @NonNull
+        public Builder setBackgroundTintList(@Nullable ColorStateList colors) {
+            backgroundTint = colors;
+            return this;
+        }
+
+        @NonNull
+        public Builder setBackgroundTint(@ColorInt int color) {
+            return setBackgroundTintList(ColorStateList.valueOf(color));
+        }
+
+        /**
+         * @param duration How long to display the message. Can be {@link BaseTransientBottomBar#LENGTH_SHORT}, {@link
+         *                 BaseTransientBottomBar#LENGTH_LONG}, {@link BaseTransientBottomBar#LENGTH_INDEFINITE}, or a
+         *                 custom duration in milliseconds.
+         */
+        @NonNull
+        public Builder setDuration(@BaseTransientBottomBar.Duration int duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        @NonNull
+        public BannerbarSpec build() {
+            return new BannerbarSpec(this);
+        }
+
+        /**
+         * Copies text that may be mutated later, like {@link android.text.Editable}.
+         */
+        @NonNull
+        private static CharSequence freeze(@NonNull CharSequence text) {
+            if (text instanceof String || text instanceof SpannedString) {
+                return text;
+            }
+            return text instanceof Spanned ? new SpannedString(text) : text.toString();
+        }
+    }
+}
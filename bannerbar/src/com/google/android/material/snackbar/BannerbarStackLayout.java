@@ -0,0 +1,261 @@
+package com.google.android.material.snackbar;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.hendraanggrian.material.bannerbar.R;
+
+import java.util.ArrayList;
+
+/**
+ * Shows several bannerbar contents at once, stacked vertically, for notices that are relevant at the same time such
+ * as being offline while an upload is pending. Unlike {@link Bannerbar}, stacked contents are not managed by {@link
+ * SnackbarManager} and stay until removed.
+ * <p>
+ * <p>Up to {@link #getMaxVisible()} contents are shown in order of {@link #push(BannerbarSpec)}, the rest collapse into
+ * a summary row. Every content is a direct child of this layout, which measures and lays them out in a single pass.
+ * The content of a removed spec is rebound to the first collapsed one, or recycled for later bannerbars when none is
+ * left. Actions remove their spec after their listener is called. Background tint and duration of specs are ignored,
+ * this layout is a single surface with its own background.
+ * <p>
+ * <p>All methods must be called on the main thread.
+ */
+public final class BannerbarStackLayout extends ViewGroup {
+
+    /**
+     * Default number of contents shown before collapsing the rest.
+     */
+    public static final int DEFAULT_MAX_VISIBLE = 3;
+
+    private final ArrayList<BannerbarSpec> specs = new ArrayList<>();
+    private final TextView summaryView;
+    private int maxVisible = DEFAULT_MAX_VISIBLE;
+
+    /**
+     * Shared by every content, removes the spec of the content holding the clicked action.
+     */
+    private final OnClickListener dismissListener = new OnClickListener() {
+        @Override
+        public void onClick(View view) {
+            View child = view;
+            while (child.getParent() != BannerbarStackLayout.this) {
+                child = (View) child.getParent();
+            }
+            remove(specs.get(indexOfChild(child)));
+        }
+    };
+
+    public BannerbarStackLayout(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public BannerbarStackLayout(@NonNull Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        if (getBackground() == null) {
+            setBackgroundResource(R.drawable.design_snackbar_background);
+        }
+        summaryView = (TextView) LayoutInflater.from(context)
+            .inflate(R.layout.design_layout_bannerbar_stack_more, this, false);
+        addView(summaryView);
+    }
+
+    /**
+     * Sets how many contents are shown, the following ones collapse into the summary row.
+     */
+    public void setMaxVisible(@IntRange(from = 1) int maxVisible) {
+        if (this.maxVisible == maxVisible) {
+            return;
+        }
+        this.maxVisible = maxVisible;
+        // rebinding would do as much work as starting over
+        final ArrayList<BannerbarSpec> current = new ArrayList<>(specs);
+        clear();
+        for (final BannerbarSpec spec : current) {
+            push(spec);
+        }
+    }
+
+    public int getMaxVisible() {
+        return maxVisible;
+    }
+
+    /**
+     * Shows {@code spec} below the ones already stacked, or counts it in the summary row if the stack is full.
+     */
+    public void push(@NonNull BannerbarSpec spec) {
+        specs.add(spec);
+        if (getVisibleCount() < maxVisible) {
+            final BannerbarContentLayout content = acquire();
+            bind(content, spec);
+            addView(content, getVisibleCount());
+        }
+        updateSummary();
+    }
+
+    /**
+     * Removes {@code spec} from the stack, the first collapsed spec is shown in its place.
+     *
+     * @return true if {@code spec} was stacked.
+     */
+    public boolean remove(@NonNull BannerbarSpec spec) {
+        final int index = specs.indexOf(spec);
+        if (index < 0) {
+            return false;
+        }
+        specs.remove(index);
+        if (index < getVisibleCount()) {
+            final BannerbarContentLayout content = (BannerbarContentLayout) getChildAt(index);
+            if (specs.size() >= maxVisible) {
+                // moved to the end of visible contents, without detaching it from the window
+                bind(content, specs.get(maxVisible - 1));
+                detachViewFromParent(index);
+                attachViewToParent(content, getVisibleCount(), content.getLayoutParams());
+                requestLayout();
+                invalidate();
+            } else {
+                removeViewAt(index);
+                release(content);
+            }
+        }
+        updateSummary();
+        return true;
+    }
+
+    /**
+     * Removes every spec, their contents are recycled.
+     */
+    public void clear() {
+        specs.clear();
+        while (getVisibleCount() > 0) {
+            final BannerbarContentLayout content = (BannerbarContentLayout) getChildAt(0);
+            removeViewAt(0);
+            release(content);
+        }
+        updateSummary();
+    }
+
+    /**
+     * Returns the number of stacked specs, collapsed ones included.
+     */
+    public int getCount() {
+        return specs.size();
+    }
+
+    /**
+     * Returns the number of contents shown.
+     */
+    public int getVisibleCount() {
+        // summary row is always the last child
+        return getChildCount() - 1;
+    }
+
+    /**
+     * Returns the row summarizing collapsed specs, shown only when there are some.
+     */
+    @NonNull
+    public TextView getSummaryView() {
+        return summaryView;
+    }
+
+    @NonNull
+    private BannerbarContentLayout acquire() {
+        final Context context = getContext();
+        final int layoutId = BannerbarResources.get(context).layoutId;
+        final BannerbarContentLayout content = BannerbarPool.getInstance(context).acquire(context, layoutId);
+        return content != null
+            ? content
+            : (BannerbarContentLayout) LayoutInflater.from(context).inflate(layoutId, this, false);
+    }
+
+    private void release(@NonNull BannerbarContentLayout content) {
+        final Context context = getContext();
+        BannerbarPool.getInstance(context).release(context, BannerbarResources.get(context).layoutId, content);
+    }
+
+    private void bind(@NonNull BannerbarContentLayout content, @NonNull BannerbarSpec spec) {
+        // layered as in a standalone bannerbar, before bind restores colors of a rebound content
+        content.updateActionTextColorAlphaIfNeeded(BannerbarResources.get(getContext()).actionTextColorAlpha);
+        content.bind(spec);
+        content.setDismissListener(dismissListener);
+    }
+
+    private void updateSummary() {
+        final int collapsed = specs.size() - getVisibleCount();
+        if (collapsed > 0) {
+            summaryView.setText(getResources().getQuantityString(R.plurals.bannerbar_stack_more, collapsed, collapsed));
+            summaryView.setVisibility(VISIBLE);
+        } else if (summaryView.getVisibility() != GONE) {
+            summaryView.setVisibility(GONE);
+        }
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        final int paddingVertical = getPaddingTop() + getPaddingBottom();
+        int width = 0;
+        int height = paddingVertical;
+        int childState = 0;
+        for (int i = 0; i < getChildCount(); i++) {
+            final View child = getChildAt(i);
+            if (child.getVisibility() == GONE) {
+                continue;
+            }
+            measureChildWithMargins(child, widthMeasureSpec, 0, heightMeasureSpec, height - paddingVertical);
+            final MarginLayoutParams lp = (MarginLayoutParams) child.getLayoutParams();
+            width = Math.max(width, child.getMeasuredWidth() + lp.leftMargin + lp.rightMargin);
+            height += child.getMeasuredHeight() + lp.topMargin + lp.bottomMargin;
+            childState = combineMeasuredStates(childState, child.getMeasuredState());
+        }
+        width += getPaddingLeft() + getPaddingRight();
+        setMeasuredDimension(
+            resolveSizeAndState(Math.max(width, getSuggestedMinimumWidth()), widthMeasureSpec, childState),
+            resolveSizeAndState(Math.max(height, getSuggestedMinimumHeight()), heightMeasureSpec,
+                childState << MEASURED_HEIGHT_STATE_SHIFT));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        int top = getPaddingTop();
+        for (int i = 0; i < getChildCount(); i++) {
+            final View child = getChildAt(i);
+            if (child.getVisibility() == GONE) {
+                continue;
+            }
+            final MarginLayoutParams lp = (MarginLayoutParams) child.getLayoutParams();
+            top += lp.topMargin;
+            final int left = getPaddingLeft() + lp.leftMargin;
+            child.layout(left, top, left + child.getMeasuredWidth(), top + child.getMeasuredHeight());
+            top += child.getMeasuredHeight() + lp.bottomMargin;
+        }
+    }
+
+    @Override
+    protected boolean checkLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof MarginLayoutParams;
+    }
+
+    @Override
+    public ViewGroup.LayoutParams generateLayoutParams(AttributeSet attrs) {
+        return new MarginLayoutParams(getContext(), attrs);
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateDefaultLayoutParams() {
+        return new MarginLayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof MarginLayoutParams
+            ? new MarginLayoutParams((MarginLayoutParams) p)
+            : new MarginLayoutParams(p);
+    }
+}
@@ -0,0 +1,231 @@
+package com.google.android.material.snackbar;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded cache of precomputed titles and subtitles, so that banners shown repeatedly skip text shaping and measuring.
+ * Entries are keyed by the text and the {@link PrecomputedTextCompat.Params} of the view it is bound to, which cover
+ * text appearance. Measured text does not depend on the available width, the same entry is reused across widths.
+ * <p>
+ * <p>Texts are only precomputed on background threads: by {@link Bannerbar#setTitleAsync(CharSequence)} and {@link
+ * Bannerbar#setSubtitleAsync(CharSequence)}, and after a text bound on the main thread was not cached, so that the next
+ * bannerbar showing it reuses the entry.
+ * {@link TextView} attaches its watchers to the spannable text it shows, so a cached text is lent to one view at a
+ * time: other views showing the same text meanwhile get it as plain text.
+ * <p>
+ * <p>Only plain texts are cached, styled texts are laid out by their view as usual. The cache is emptied when the
+ * configuration changes, since font scale and locale affect measured text, and when the system is low on memory.
+ */
+public final class BannerbarTextCache {
+
+    /**
+     * Default maximum number of precomputed texts kept, enough for the handful of messages an app usually has.
+     */
+    public static final int DEFAULT_MAX_SIZE = 32;
+
+    @Nullable
+    private static volatile BannerbarTextCache instance;
+
+    private final LruCache<Key, Entry> cache = new LruCache<>(DEFAULT_MAX_SIZE);
+    private final AtomicInteger hitCount = new AtomicInteger();
+    private final AtomicInteger missCount = new AtomicInteger();
+
+    private BannerbarTextCache() {
+    }
+
+    /**
+     * Returns the cache shared by every {@link Bannerbar}. May be called from any thread.
+     */
+    @NonNull
+    public static BannerbarTextCache getInstance(@NonNull Context context) {
+        if (instance == null) {
+            synchronized (BannerbarTextCache.class) {
+                if (instance == null) {
+                    final BannerbarTextCache cache = new BannerbarTextCache();
+                    context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks2() {
+                        @Override
+                        public void onTrimMemory(int level) {
+                            if (level >= TRIM_MEMORY_BACKGROUND) {
+                                cache.evictAll();
+                            }
+                        }
+
+                        @Override
+                        public void onConfigurationChanged(@NonNull Configuration newConfig) {
+                            cache.evictAll();
+                        }
+
+                        @Override
+                        public void onLowMemory() {
+                            cache.evictAll();
+                        }
+                    });
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Precomputes {@code text} with {@code params} unless it is already cached. Must be called on a background thread.
+     */
+    void precompute(@NonNull String text, @NonNull PrecomputedTextCompat.Params params) {
+        final Key key = new Key(text, params);
+        if (cache.get(key) != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+            fill(key);
+        }
+    }
+
+    /**
+     * Binds {@code text} precomputed with the params of {@code view} if it is cached and not shown by another view,
+     * otherwise precomputes it in the background for the next bind. Must be called on the main thread.
+     *
+     * @return true if the cached text is shown by {@code view}, false if it has to be set as plain text.
+     */
+    boolean bind(@NonNull TextView view, @NonNull String text) {
+        final Key key = new Key(text, TextViewCompat.getTextMetricsParams(view));
+        final Entry entry = cache.get(key);
+        if (entry != null && entry.bind(view)) {
+            hitCount.incrementAndGet();
+            return true;
+        }
+        missCount.incrementAndGet();
+        if (entry == null) {
+            BannerbarExecutors.background().execute(new Runnable() {
+                @Override
+                public void run() {
+                    fill(key);
+                }
+            });
+        }
+        return false;
+    }
+
+    /**
+     * Binds {@code text} right after {@link #precompute(String, PrecomputedTextCompat.Params)}, which already counted
+     * it. Must be called on the main thread.
+     */
+    boolean bindPrecomputed(@NonNull TextView view, @NonNull String text) {
+        final Entry entry = cache.get(new Key(text, TextViewCompat.getTextMetricsParams(view)));
+        return entry != null && entry.bind(view);
+    }
+
+    private void fill(@NonNull Key key) {
+        if (cache.get(key) == null) {
+            cache.put(key, new Entry(PrecomputedTextCompat.create(key.text, key.params)));
+        }
+    }
+
+    /**
+     * Returns the number of times a cached text was reused, each text requested by a bannerbar is counted once.
+     */
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of times a requested text was not cached, or was shown by another view.
+     */
+    public int getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of precomputed texts currently kept.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the maximum number of precomputed texts kept.
+     */
+    public int maxSize() {
+        return cache.maxSize();
+    }
+
+    /**
+     * Sets the maximum number of precomputed texts kept, evicting the least recently used ones if needed.
+     */
+    public void resize(int maxSize) {
+        cache.resize(maxSize);
+    }
+
+    /**
+     * Removes every precomputed text, hit and miss counts are kept.
+     */
+    public void evictAll() {
+        cache.evictAll();
+    }
+
+    private static final class Entry {
+        final PrecomputedTextCompat text;
+        @Nullable
+        private WeakReference<TextView> owner;
+        /**
+         * What the owner returns as its text, which may not be {@link #text} itself.
+         */
+        @Nullable
+        private CharSequence shown;
+
+        Entry(@NonNull PrecomputedTextCompat text) {
+            this.text = text;
+        }
+
+        boolean bind(@NonNull TextView view) {
+            final TextView current = owner != null ? owner.get() : null;
+            if (current != null && current.getText() == shown) {
+                return current == view;
+            }
+            TextViewCompat.setPrecomputedText(view, text);
+            if (current != view) {
+                owner = new WeakReference<>(view);
+            }
+            shown = view.getText();
+            return true;
+        }
+    }
+
+    private static final class Key {
+        final String text;
+        final PrecomputedTextCompat.Params params;
+
+        Key(@NonNull String text, @NonNull PrecomputedTextCompat.Params params) {
+            this.text = text;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return text.equals(other.text) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + params.hashCode();
+        }
+    }
+}
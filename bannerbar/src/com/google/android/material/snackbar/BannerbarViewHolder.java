@@ -0,0 +1,78 @@
+package com.google.android.material.snackbar;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Holds a {@link BannerbarContentLayout} shown inline as an item of {@link RecyclerView}, created and bound by {@link
+ * BannerbarAdapterDelegate}.
+ * <p>
+ * <p>Binding goes through the same path as {@link Bannerbar#apply(BannerbarSpec)}, only views whose content changed are
+ * touched. Actions are dispatched by a listener created with the content, binding allocates nothing.
+ */
+public final class BannerbarViewHolder extends RecyclerView.ViewHolder {
+
+    @NonNull
+    private final BannerbarContentLayout contentLayout;
+    @Nullable
+    private BannerbarSpec spec;
+
+    BannerbarViewHolder(
+        @NonNull BannerbarContentLayout content,
+        @Nullable final BannerbarAdapterDelegate.OnDismissListener dismissListener
+    ) {
+        super(content);
+        contentLayout = content;
+        content.setDismissListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View view) {
+                if (dismissListener != null && spec != null) {
+                    dismissListener.onDismiss(BannerbarViewHolder.this, spec);
+                }
+            }
+        });
+    }
+
+    @NonNull
+    public BannerbarContentLayout getContentLayout() {
+        return contentLayout;
+    }
+
+    /**
+     * Returns the spec last bound to this holder, or null if it has not been bound yet.
+     */
+    @Nullable
+    public BannerbarSpec getSpec() {
+        return spec;
+    }
+
+    void bind(@NonNull BannerbarSpec spec) {
+        this.spec = spec;
+        contentLayout.bind(spec);
+        ViewCompat.setBackgroundTintList(contentLayout, spec.getBackgroundTint());
+    }
+
+    /**
+     * Binds only the parts of {@code spec} flagged in {@code changes}.
+     *
+     * @see BannerbarAdapterDelegate#getChangePayload(BannerbarSpec, BannerbarSpec)
+     */
+    void bind(@NonNull BannerbarSpec spec, int changes) {
+        this.spec = spec;
+        contentLayout.beginBatch();
+        try {
+            if ((changes & BannerbarAdapterDelegate.PAYLOAD_TITLE) != 0) {
+                contentLayout.setTitle(spec.getTitle());
+            }
+            if ((changes & BannerbarAdapterDelegate.PAYLOAD_SUBTITLE) != 0) {
+                contentLayout.setSubtitle(spec.getSubtitle());
+            }
+        } finally {
+            contentLayout.endBatch();
+        }
+    }
+}
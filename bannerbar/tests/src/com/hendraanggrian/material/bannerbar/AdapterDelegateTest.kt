@@ -0,0 +1,158 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.BannerbarAdapterDelegate
+import com.google.android.material.snackbar.BannerbarSpec
+import com.google.android.material.snackbar.BannerbarViewHolder
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class AdapterDelegateTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var recyclerView: RecyclerView
+    private lateinit var adapter: BannerAdapter
+    private lateinit var spec: BannerbarSpec
+    private var dismissed: BannerbarSpec? = null
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Adapter Delegate Test"))
+    }
+
+    @Test fun payload() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val context = view.context
+                val old = BannerbarSpec.Builder(context)
+                    .setTitle("Title")
+                    .setSubtitle("Subtitle")
+                    .addAction("Action", null)
+                    .build()
+                assertEquals(
+                    BannerbarAdapterDelegate.PAYLOAD_TITLE,
+                    BannerbarAdapterDelegate.getChangePayload(old, old.buildUpon(context).setTitle("New").build())
+                )
+                assertEquals(
+                    BannerbarAdapterDelegate.PAYLOAD_TITLE or BannerbarAdapterDelegate.PAYLOAD_SUBTITLE,
+                    BannerbarAdapterDelegate.getChangePayload(
+                        old,
+                        old.buildUpon(context).setTitle("New").setSubtitle("New").build()
+                    )
+                )
+                // anything else is bound in full
+                assertNull(
+                    BannerbarAdapterDelegate.getChangePayload(
+                        old,
+                        old.buildUpon(context).clearActions().addAction("Other", null).build()
+                    )
+                )
+            }
+        })
+    }
+
+    @Test fun inline() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                spec = BannerbarSpec.Builder(view.context)
+                    .setTitle("Inline")
+                    .setSubtitle("Shown as an item")
+                    .addAction("Dismiss", null)
+                    .build()
+                adapter = BannerAdapter(mutableListOf(spec))
+                recyclerView = RecyclerView(view.context).apply {
+                    layoutManager = LinearLayoutManager(view.context)
+                    adapter = this@AdapterDelegateTest.adapter
+                }
+                (view as ViewGroup).addView(recyclerView)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(500))
+        lateinit var holder: BannerbarViewHolder
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                holder = recyclerView.findViewHolderForAdapterPosition(0) as BannerbarViewHolder
+                assertSame(spec, holder.spec)
+                assertEquals("Inline", holder.contentLayout.titleView.text.toString())
+
+                val updated = spec.buildUpon(view.context).setTitle("Updated").build()
+                adapter.banners[0] = updated
+                adapter.notifyItemChanged(0, BannerbarAdapterDelegate.getChangePayload(spec, updated))
+                spec = updated
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(500))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                // partially bound in the same holder
+                assertSame(holder, recyclerView.findViewHolderForAdapterPosition(0))
+                assertSame(spec, holder.spec)
+                assertEquals("Updated", holder.contentLayout.titleView.text.toString())
+                assertEquals("Shown as an item", holder.contentLayout.subtitleView.text.toString())
+
+                holder.contentLayout.actionView1.performClick()
+                assertSame(spec, dismissed)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(500))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertEquals(0, recyclerView.childCount)
+            }
+        })
+    }
+
+    private inner class BannerAdapter(val banners: MutableList<BannerbarSpec>) :
+        RecyclerView.Adapter<BannerbarViewHolder>() {
+        private val delegate = BannerbarAdapterDelegate(
+            BannerbarAdapterDelegate.OnDismissListener { holder, spec ->
+                dismissed = spec
+                banners.removeAt(holder.adapterPosition)
+                notifyItemRemoved(holder.adapterPosition)
+            }
+        )
+
+        override fun getItemCount(): Int = banners.size
+
+        override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): BannerbarViewHolder =
+            delegate.onCreateViewHolder(parent)
+
+        override fun onBindViewHolder(holder: BannerbarViewHolder, position: Int) =
+            delegate.onBindViewHolder(holder, banners[position])
+
+        override fun onBindViewHolder(holder: BannerbarViewHolder, position: Int, payloads: MutableList<Any>) =
+            delegate.onBindViewHolder(holder, banners[position], payloads)
+    }
+}
@@ -0,0 +1,147 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.os.Debug
+import android.util.Log
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class AllocationTest : AbstractTest() {
+    private companion object {
+        const val TAG = "AllocationTest"
+        const val CYCLES = 10_000
+        const val WARM_UP = 100
+        const val ITERATIONS = 1000
+
+        /** Allowed growth of allocations per cycle between both halves, beyond it something accumulates. */
+        const val TOLERANCE = 1.1
+    }
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Allocation Test"))
+    }
+
+    @Suppress("DEPRECATION")
+    @Test fun cycles() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                // allocated once, so that only the library is counted
+                val listener = View.OnClickListener { }
+                val cycle = {
+                    Bannerbar.make(view, "Allocation", Bannerbar.LENGTH_SHORT)
+                        .addAction("First", listener)
+                        .addAction("Second", listener)
+                        .apply {
+                            show()
+                            dismiss()
+                        }
+                    uiController.loopMainThreadUntilIdle()
+                }
+                repeat(WARM_UP) { cycle() }
+
+                Debug.resetThreadAllocCount()
+                Debug.startAllocCounting()
+                repeat(CYCLES / 2) { cycle() }
+                val firstHalf = Debug.getThreadAllocCount()
+                Debug.resetThreadAllocCount()
+                repeat(CYCLES / 2) { cycle() }
+                val secondHalf = Debug.getThreadAllocCount()
+                Debug.stopAllocCounting()
+
+                Log.i(
+                    TAG,
+                    "Allocated ${firstHalf / (CYCLES / 2)} then ${secondHalf / (CYCLES / 2)} objects per cycle"
+                )
+                assertTrue(secondHalf <= firstHalf * TOLERANCE)
+            }
+        })
+    }
+
+    @Test fun addAction() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val listener = View.OnClickListener { }
+                // inflates the action row, which happens once per content
+                val bannerbar = Bannerbar.make(view, "Actions", Bannerbar.LENGTH_INDEFINITE)
+                    .addAction("First", listener)
+                    .addAction("Second", listener)
+                val none = countAllocations {
+                    bannerbar.clearActions()
+                }
+                val two = countAllocations {
+                    bannerbar.clearActions()
+                        .addAction("First", listener)
+                        .addAction("Second", listener)
+                }
+                assertEquals(none, two)
+            }
+        })
+    }
+
+    @Test fun addChangingAction() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val listener = View.OnClickListener { }
+                val texts = arrayOf("First", "Second", "Third")
+                val bannerbar = Bannerbar.make(view, "Actions", Bannerbar.LENGTH_INDEFINITE)
+                    .addAction(texts[0], listener)
+                    .addAction(texts[1], listener)
+                val content = bannerbar.contentLayout
+                // setting a changed text allocates within TextView, only that much is expected
+                var index = 0
+                val direct = countAllocations {
+                    bannerbar.clearActions()
+                    content.actionView1.text = texts[index % texts.size]
+                    content.actionView2.text = texts[(index + 1) % texts.size]
+                    index++
+                }
+                index = 0
+                val changing = countAllocations {
+                    bannerbar.clearActions()
+                        .addAction(texts[index % texts.size], listener)
+                        .addAction(texts[(index + 1) % texts.size], listener)
+                    index++
+                }
+                assertEquals(direct, changing)
+            }
+        })
+    }
+
+    /** Counts objects allocated by [ITERATIONS] calls of [block] on this thread, after a warm-up call. */
+    @Suppress("DEPRECATION")
+    private inline fun countAllocations(block: () -> Unit): Int {
+        block()
+        Debug.resetThreadAllocCount()
+        Debug.startAllocCounting()
+        repeat(ITERATIONS - 1) { block() }
+        Debug.stopAllocCounting()
+        return Debug.getThreadAllocCount()
+    }
+}
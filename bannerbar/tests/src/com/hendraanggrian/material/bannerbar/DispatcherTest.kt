@@ -0,0 +1,126 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarDispatcher
+import com.google.android.material.snackbar.BannerbarQueue
+import com.google.android.material.snackbar.BannerbarSpec
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.concurrent.thread
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class DispatcherTest : AbstractTest() {
+    private companion object {
+        const val THREADS = 4
+        const val POSTS_PER_THREAD = 25
+    }
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var dispatcher: BannerbarDispatcher
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Dispatcher Test"))
+    }
+
+    @Test fun coalesce() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                dispatcher = BannerbarDispatcher(view)
+                // the main thread is blocked meanwhile, every post lands in the same frame
+                postConcurrently(view, "Progress")
+                assertEquals(THREADS * POSTS_PER_THREAD, dispatcher.queueDepth)
+                assertEquals(0, dispatcher.dispatchedCount)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertEquals(0, dispatcher.queueDepth)
+                assertEquals(1, dispatcher.dispatchedCount)
+                assertEquals(THREADS * POSTS_PER_THREAD - 1, dispatcher.mergedCount)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(2000))
+    }
+
+    @Test fun queued() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                dispatcher = BannerbarDispatcher(view, BannerbarQueue())
+                postConcurrently(view, "First")
+                postConcurrently(view, "Second")
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                // one bannerbar per key, both handed to the queue
+                assertEquals(2, dispatcher.dispatchedCount)
+                assertEquals(2 * (THREADS * POSTS_PER_THREAD - 1), dispatcher.mergedCount)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(2000))
+    }
+
+    @Test fun detached() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val anchor = View(view.context)
+                dispatcher = BannerbarDispatcher(anchor)
+                dispatcher.post(BannerbarSpec.Builder(view.context).setTitle("Detached").build())
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertEquals(0, dispatcher.dispatchedCount)
+                assertEquals(1, dispatcher.discardedCount)
+            }
+        })
+    }
+
+    /** Posts requests of the same [key] from several threads, returning once all are posted. */
+    private fun postConcurrently(view: View, key: String) {
+        List(THREADS) { index ->
+            thread {
+                repeat(POSTS_PER_THREAD) {
+                    val spec = BannerbarSpec.Builder(view.context)
+                        .setTitle("$key $index.$it")
+                        .setDuration(Bannerbar.LENGTH_SHORT)
+                        .build()
+                    dispatcher.post(key, spec, BannerbarQueue.PRIORITY_NORMAL)
+                }
+            }
+        }.forEach { it.join() }
+    }
+}
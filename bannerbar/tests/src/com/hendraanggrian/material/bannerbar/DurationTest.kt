@@ -0,0 +1,94 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.content.Context
+import android.os.Build
+import android.os.Debug
+import android.view.View
+import android.view.accessibility.AccessibilityManager
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class DurationTest : AbstractTest() {
+    private companion object {
+        const val CUSTOM_DURATION = 1234
+        const val ITERATIONS = 1000
+    }
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Duration Test"))
+    }
+
+    @Test fun recommended() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val manager = view.context.getSystemService(Context.ACCESSIBILITY_SERVICE) as AccessibilityManager
+                listOf(Bannerbar.LENGTH_SHORT, Bannerbar.LENGTH_LONG, CUSTOM_DURATION).forEach { duration ->
+                    val plain = Bannerbar.make(view, "Plain", duration)
+                    val actionable = Bannerbar.make(view, "Actionable", duration).addAction("Action")
+                    assertEquals(recommend(manager, duration, false), plain.duration)
+                    assertEquals(recommend(manager, duration, true), actionable.duration)
+                }
+                assertEquals(
+                    Bannerbar.LENGTH_INDEFINITE,
+                    Bannerbar.make(view, "Indefinite", Bannerbar.LENGTH_INDEFINITE).addAction("Action").duration
+                )
+            }
+        })
+    }
+
+    @Suppress("DEPRECATION")
+    @Test fun cached() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val bannerbar = Bannerbar.make(view, "Cached", Bannerbar.LENGTH_LONG).addAction("Action")
+                val duration = bannerbar.duration
+                // resolved once, read without querying accessibility settings again
+                var mismatches = 0
+                Debug.resetThreadAllocCount()
+                Debug.startAllocCounting()
+                repeat(ITERATIONS) {
+                    if (bannerbar.duration != duration) mismatches++
+                }
+                Debug.stopAllocCounting()
+                assertEquals(0, Debug.getThreadAllocCount())
+                assertEquals(0, mismatches)
+            }
+        })
+    }
+
+    /** Duration as adjusted by the platform, mirroring [Bannerbar.getDuration] without its cache. */
+    private fun recommend(manager: AccessibilityManager, duration: Int, hasAction: Boolean): Int {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            val controls = if (hasAction) AccessibilityManager.FLAG_CONTENT_CONTROLS else 0
+            return manager.getRecommendedTimeoutMillis(
+                duration,
+                controls or AccessibilityManager.FLAG_CONTENT_ICONS or AccessibilityManager.FLAG_CONTENT_TEXT
+            )
+        }
+        return if (hasAction && manager.isTouchExplorationEnabled) Bannerbar.LENGTH_INDEFINITE else duration
+    }
+}
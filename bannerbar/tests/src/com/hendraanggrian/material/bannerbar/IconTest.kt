@@ -0,0 +1,90 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.graphics.Bitmap
+import android.graphics.Color
+import android.graphics.drawable.BitmapDrawable
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import java.io.File
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class IconTest : AbstractTest() {
+    private companion object {
+        const val SIDE = 2048
+    }
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var file: File
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Icon Test"))
+        file = File(rule.activity.cacheDir, "icon_test.png")
+        val bitmap = Bitmap.createBitmap(SIDE, SIDE, Bitmap.Config.ARGB_8888).apply { eraseColor(Color.RED) }
+        file.outputStream().use { bitmap.compress(Bitmap.CompressFormat.PNG, 100, it) }
+        bitmap.recycle()
+    }
+
+    @AfterTest fun delete() {
+        file.delete()
+    }
+
+    @Test fun loadFile() {
+        lateinit var first: Bannerbar
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                first = Bannerbar.make(view, "Loading icon", Bannerbar.LENGTH_INDEFINITE).setIcon(file)
+                // slot is reserved by a placeholder while decoding
+                val iconView = first.contentLayout.iconView
+                assertEquals(View.VISIBLE, iconView.visibility)
+                assertFalse(iconView.drawable is BitmapDrawable)
+                first.show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(2000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val size = view.resources.getDimensionPixelSize(R.dimen.design_bannerbar_icon_size)
+                val drawable = first.contentLayout.iconView.drawable
+                assertTrue(drawable is BitmapDrawable)
+                val bitmap = drawable.bitmap
+                // downsampled to the icon slot rather than decoded at full size
+                assertTrue(maxOf(bitmap.width, bitmap.height) <= size)
+
+                // decoded once, another bannerbar binds the cached bitmap right away
+                val second = Bannerbar.make(view, "Cached icon", Bannerbar.LENGTH_SHORT).setIcon(file)
+                val cached = second.contentLayout.iconView.drawable
+                assertTrue(cached is BitmapDrawable)
+                assertSame(bitmap, cached.bitmap)
+                first.dismiss()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+}
@@ -0,0 +1,89 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import android.widget.TextView
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class IdleShowTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var recyclerView: RecyclerView
+    private lateinit var bannerbar: Bannerbar
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Idle Show Test"))
+    }
+
+    @Test fun fling() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                recyclerView = RecyclerView(view.context).apply {
+                    layoutManager = LinearLayoutManager(context)
+                    adapter = object : RecyclerView.Adapter<RecyclerView.ViewHolder>() {
+                        override fun getItemCount() = 10_000
+                        override fun onCreateViewHolder(parent: ViewGroup, viewType: Int) =
+                            object : RecyclerView.ViewHolder(TextView(parent.context).apply { minHeight = 200 }) {}
+
+                        override fun onBindViewHolder(holder: RecyclerView.ViewHolder, position: Int) {
+                            (holder.itemView as TextView).text = position.toString()
+                        }
+                    }
+                }
+                (view as FrameLayout).addView(recyclerView)
+            }
+        })
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                recyclerView.fling(0, recyclerView.maxFlingVelocity)
+                bannerbar = Bannerbar.make(view, "When idle", Bannerbar.LENGTH_SHORT)
+                    .setShowMode(Bannerbar.SHOW_WHEN_IDLE)
+                    .setMaxShowDelay(10_000)
+                bannerbar.show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(500))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertTrue(recyclerView.scrollState == RecyclerView.SCROLL_STATE_SETTLING)
+                assertFalse(bannerbar.isShownOrQueued)
+                recyclerView.stopScroll()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) = assertTrue(bannerbar.isShownOrQueued)
+        })
+    }
+}
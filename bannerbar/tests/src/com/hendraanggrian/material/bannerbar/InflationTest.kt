@@ -0,0 +1,114 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.util.Log
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import android.view.ViewStub
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarContentLayout
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class InflationTest : AbstractTest() {
+    private companion object {
+        const val TAG = "InflationTest"
+        const val ITERATIONS = 50
+    }
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Inflation Test"))
+    }
+
+    @Test fun onDemand() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val bannerbar = Bannerbar.make(view, "Title only", Bannerbar.LENGTH_SHORT)
+                val layout = bannerbar.contentLayout
+                assertNull(layout.findViewById(R.id.bannerbar_icon))
+                assertNull(layout.findViewById(R.id.bannerbar_subtitle))
+                assertNull(layout.findViewById(R.id.bannerbar_actions))
+
+                bannerbar.setSubtitle("Subtitle").addAction("Action")
+                assertNull(layout.findViewById(R.id.bannerbar_icon))
+                assertNotNull(layout.findViewById(R.id.bannerbar_subtitle))
+                assertNotNull(layout.findViewById(R.id.bannerbar_actions))
+                assertSame(layout.iconView, layout.iconView)
+                assertNotNull(layout.findViewById(R.id.bannerbar_icon))
+            }
+        })
+    }
+
+    @Test fun savings() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val inflater = LayoutInflater.from(view.context)
+                var titleOnlyNanos = 0L
+                var optionalNanos = 0L
+                var titleOnlyViews = 0
+                var allViews = 0
+                repeat(ITERATIONS) {
+                    var start = System.nanoTime()
+                    val layout = inflater.inflate(
+                        R.layout.mtrl_layout_bannerbar_include,
+                        view as ViewGroup,
+                        false
+                    ) as BannerbarContentLayout
+                    titleOnlyNanos += System.nanoTime() - start
+                    titleOnlyViews = countViews(layout)
+
+                    start = System.nanoTime()
+                    layout.iconView
+                    layout.subtitleView
+                    layout.actionView1
+                    optionalNanos += System.nanoTime() - start
+                    allViews = countViews(layout)
+                }
+                Log.i(
+                    TAG,
+                    "Title-only banner inflates $titleOnlyViews views in ${titleOnlyNanos / ITERATIONS / 1000}us, " +
+                        "skipping ${allViews - titleOnlyViews} views and ${optionalNanos / ITERATIONS / 1000}us"
+                )
+                // layout and title, then icon, subtitle and the action row with its two buttons
+                assertEquals(2, titleOnlyViews)
+                assertEquals(7, allViews)
+                // inflating the skipped parts takes time, which title-only banners save
+                assertTrue(optionalNanos > 0)
+            }
+        })
+    }
+
+    /** Counts inflated views, stubs excluded. */
+    private fun countViews(view: View): Int = when (view) {
+        is ViewStub -> 0
+        is ViewGroup -> (0 until view.childCount).sumBy { countViews(view.getChildAt(it)) } + 1
+        else -> 1
+    }
+}
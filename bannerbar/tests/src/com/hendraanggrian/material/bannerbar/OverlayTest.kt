@@ -0,0 +1,86 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertSame
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class OverlayTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var bannerbar: Bannerbar
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Overlay Test"))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                bannerbar = Bannerbar.makeOverlay(view, "Overlay", Bannerbar.LENGTH_INDEFINITE)
+                bannerbar.show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+
+    @Test fun attach() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val overlay = bannerbar.view.parent as ViewGroup
+                val content = overlay.parent as ViewGroup
+                assertEquals(R.id.bannerbar_overlay, overlay.id)
+                assertEquals(android.R.id.content, content.id)
+                // drawn above the app's views
+                assertEquals(content.childCount - 1, content.indexOfChild(overlay))
+
+                // the layer is added once per window
+                val childCount = content.childCount
+                Bannerbar.makeOverlay(view, "Other", Bannerbar.LENGTH_SHORT)
+                assertEquals(childCount, content.childCount)
+                assertSame(overlay, content.findViewById(R.id.bannerbar_overlay))
+                bannerbar.dismiss()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+
+    @Test fun appUntouched() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val coordinator = view.parent as View
+                assertFalse(coordinator.isLayoutRequested)
+                bannerbar.setSubtitle("A subtitle that resizes the bannerbar")
+                // laid out by the overlay itself, not through the app's hierarchy
+                assertFalse(coordinator.isLayoutRequested)
+                bannerbar.dismiss()
+                assertFalse(coordinator.isLayoutRequested)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+}
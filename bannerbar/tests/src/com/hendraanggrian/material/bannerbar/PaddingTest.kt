@@ -1,6 +1,7 @@
 package com.hendraanggrian.material.bannerbar
 
 import android.view.View
+import android.view.ViewGroup
 import android.widget.FrameLayout
 import androidx.core.view.ViewCompat
 import androidx.test.espresso.Espresso.onView
@@ -112,4 +113,29 @@ class PaddingTest : AbstractTest() {
         })
         onView(withId(R.id.progressBar)).perform(delay(4000))
     }
-}
\ No newline at end of file
+
+    @Test fun actionsBelowSubtitle() {
+        val title = "Checking actions position..."
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                Bannerbar.make(view, title, Bannerbar.LENGTH_SHORT)
+                    .setIcon(android.R.drawable.ic_delete)
+                    .setSubtitle("With icon and button")
+                    .addAction("Confirm")
+                    .addCallback(object : Bannerbar.Callback() {
+                        override fun onDismissed(bannerbar: Bannerbar, event: Int) {
+                            val subtitle = bannerbar.contentLayout.subtitleView
+                            val actions = bannerbar.contentLayout.actionView1.parent as View
+                            val subtitleMargin = (subtitle.layoutParams as ViewGroup.MarginLayoutParams).bottomMargin
+                            val actionsMargin = (actions.layoutParams as ViewGroup.MarginLayoutParams).topMargin
+                            assertEquals(subtitle.bottom + subtitleMargin + actionsMargin, actions.top)
+                        }
+                    })
+                    .show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(4000))
+    }
+}
@@ -0,0 +1,141 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.app.Application
+import android.content.ComponentCallbacks2
+import android.os.Debug
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarContentLayout
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNotSame
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class PoolTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var dismissed: Bannerbar
+    private lateinit var content: BannerbarContentLayout
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Pool Test"))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                dismissed = Bannerbar.make(view, "Dismissed", Bannerbar.LENGTH_INDEFINITE)
+                content = dismissed.contentLayout
+                dismissed.show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) = dismissed.dismiss()
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+
+    @Test fun reuse() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertNull(content.parent)
+                val bannerbar = Bannerbar.make(view, "Reused", Bannerbar.LENGTH_SHORT)
+                assertSame(content, bannerbar.contentLayout)
+            }
+        })
+    }
+
+    @Test fun recycled() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertFailsWith<IllegalStateException> { dismissed.setTitle("Stale") }
+                assertFailsWith<IllegalStateException> { dismissed.addAction("Stale") }
+                assertFailsWith<IllegalStateException> { dismissed.show() }
+            }
+        })
+    }
+
+    @Test fun trimKeepsOne() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                (view.context.applicationContext as Application)
+                    .onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE)
+                val bannerbar = Bannerbar.make(view, "Kept", Bannerbar.LENGTH_SHORT)
+                assertSame(content, bannerbar.contentLayout)
+            }
+        })
+    }
+
+    @Test fun trimClears() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                (view.context.applicationContext as Application)
+                    .onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+                val bannerbar = Bannerbar.make(view, "Cleared", Bannerbar.LENGTH_SHORT)
+                assertNotSame(content, bannerbar.contentLayout)
+            }
+        })
+    }
+
+    @Test fun prewarm() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                // takes the pooled content, never shown so never released
+                Bannerbar.make(view, "Taken", Bannerbar.LENGTH_SHORT)
+                Bannerbar.prewarm(view.context, 1)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val warm = countAllocations { Bannerbar.make(view, "Prewarmed", Bannerbar.LENGTH_SHORT) }
+                val cold = countAllocations { Bannerbar.make(view, "Inflated", Bannerbar.LENGTH_SHORT) }
+                assertTrue(warm < cold)
+            }
+        })
+    }
+
+    /** Counts objects allocated by a single call of [block] on this thread. */
+    @Suppress("DEPRECATION")
+    private inline fun countAllocations(block: () -> Unit): Int {
+        Debug.resetThreadAllocCount()
+        Debug.startAllocCounting()
+        block()
+        Debug.stopAllocCounting()
+        return Debug.getThreadAllocCount()
+    }
+}
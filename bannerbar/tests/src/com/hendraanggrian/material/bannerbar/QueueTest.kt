@@ -0,0 +1,145 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarQueue
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class QueueTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private val queue = BannerbarQueue()
+    private val bannerbars = mutableMapOf<String, Bannerbar>()
+    private val dismissEvents = mutableMapOf<String, Int>()
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Queue Test"))
+    }
+
+    @Test fun preemption() {
+        onFrame {
+            queue.setMinDisplayTime(500)
+            enqueue(it, "Normal", BannerbarQueue.PRIORITY_NORMAL)
+        }
+        pause(1000)
+        onFrame {
+            assertTrue(bannerbars.getValue("Normal").isShown)
+            enqueue(it, "High", BannerbarQueue.PRIORITY_HIGH)
+        }
+        pause(1500)
+        onFrame {
+            assertTrue(bannerbars.getValue("High").isShown)
+            assertTrue("Normal" in dismissEvents)
+        }
+    }
+
+    @Test fun lowNeverPreempts() {
+        onFrame {
+            queue.setMinDisplayTime(0)
+            enqueue(it, "First", BannerbarQueue.PRIORITY_LOW)
+        }
+        pause(1000)
+        onFrame { enqueue(it, "Second", BannerbarQueue.PRIORITY_LOW) }
+        pause(1000)
+        onFrame {
+            assertTrue(bannerbars.getValue("First").isShown)
+            assertFalse(bannerbars.getValue("Second").isShownOrQueued)
+        }
+    }
+
+    @Test fun minDisplayTime() {
+        onFrame {
+            queue.setMinDisplayTime(3000)
+            enqueue(it, "First", BannerbarQueue.PRIORITY_NORMAL)
+        }
+        pause(1000)
+        onFrame { enqueue(it, "Second", BannerbarQueue.PRIORITY_NORMAL) }
+        pause(1000)
+        onFrame {
+            assertTrue(bannerbars.getValue("First").isShown)
+            assertFalse(bannerbars.getValue("Second").isShownOrQueued)
+        }
+        pause(2500)
+        onFrame {
+            assertTrue(bannerbars.getValue("Second").isShown)
+            assertTrue("First" in dismissEvents)
+        }
+    }
+
+    @Test fun mergeAndDrop() {
+        onFrame {
+            queue.setCapacity(1)
+            enqueue(it, "Shown", BannerbarQueue.PRIORITY_NORMAL)
+            enqueue(it, "Shown", BannerbarQueue.PRIORITY_NORMAL, key = "Merged")
+            assertEquals(1, queue.mergedCount)
+            assertEquals(Bannerbar.Callback.DISMISS_EVENT_CONSECUTIVE, dismissEvents["Merged"])
+
+            enqueue(it, "Pending", BannerbarQueue.PRIORITY_NORMAL)
+            enqueue(it, "Urgent", BannerbarQueue.PRIORITY_HIGH)
+            assertEquals(1, queue.pendingCount)
+            assertEquals(1, queue.droppedCount)
+            assertEquals(Bannerbar.Callback.DISMISS_EVENT_CONSECUTIVE, dismissEvents["Pending"])
+            assertFalse("Urgent" in dismissEvents)
+        }
+    }
+
+    @Test fun rateLimit() {
+        onFrame {
+            queue.setMinDisplayTime(0).setRateLimit(0.5f, 1)
+            enqueue(it, "First", BannerbarQueue.PRIORITY_NORMAL)
+        }
+        pause(500)
+        onFrame { enqueue(it, "Second", BannerbarQueue.PRIORITY_NORMAL) }
+        pause(700)
+        onFrame {
+            assertTrue("First" in dismissEvents)
+            assertFalse(bannerbars.getValue("Second").isShownOrQueued)
+        }
+        pause(2000)
+        onFrame { assertTrue(bannerbars.getValue("Second").isShown) }
+    }
+
+    private fun enqueue(view: View, title: String, priority: Int, key: String = title) {
+        val bannerbar = Bannerbar.make(view, title, Bannerbar.LENGTH_INDEFINITE)
+            .addCallback(object : Bannerbar.Callback() {
+                override fun onDismissed(bannerbar: Bannerbar, event: Int) {
+                    dismissEvents[key] = event
+                }
+            })
+        bannerbars[key] = bannerbar
+        queue.enqueue(bannerbar, priority)
+    }
+
+    private fun onFrame(block: (View) -> Unit) {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) = block(view)
+        })
+    }
+
+    private fun pause(millis: Long) {
+        onView(withId(R.id.progressBar)).perform(delay(millis))
+    }
+}
@@ -0,0 +1,94 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.graphics.Color
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarSpec
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.concurrent.thread
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class SpecTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Spec Test"))
+    }
+
+    @Test fun bind() {
+        lateinit var spec: BannerbarSpec
+        lateinit var bannerbar: Bannerbar
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                // built off the main thread
+                thread {
+                    spec = BannerbarSpec.Builder(view.context)
+                        .setTitle("Spec")
+                        .setSubtitle("Built in the background")
+                        .addAction("First", null)
+                        .addAction("Second", null)
+                        .setTitleColor(Color.RED)
+                        .setDuration(Bannerbar.LENGTH_INDEFINITE)
+                        .build()
+                }.join()
+                bannerbar = Bannerbar.make(view, spec)
+                val content = bannerbar.contentLayout
+                assertEquals("Spec", content.titleView.text.toString())
+                assertEquals("Built in the background", content.subtitleView.text.toString())
+                assertEquals("First", content.actionView1.text.toString())
+                assertEquals("Second", content.actionView2.text.toString())
+                assertEquals(Color.RED, content.titleView.currentTextColor)
+                assertEquals(Bannerbar.LENGTH_INDEFINITE, bannerbar.duration)
+                bannerbar.show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val content = bannerbar.contentLayout
+                bannerbar.apply(
+                    spec.buildUpon(view.context)
+                        .setTitle("Applied")
+                        .setSubtitle(null)
+                        .clearActions()
+                        .addAction("Only", null)
+                        .setTitleColor(null)
+                        .build()
+                )
+                // applied to the shown bannerbar, unset colors are restored
+                assertTrue(bannerbar.isShown)
+                assertEquals("Applied", content.titleView.text.toString())
+                assertEquals(View.GONE, content.subtitleView.visibility)
+                assertEquals("Only", content.actionView1.text.toString())
+                assertEquals(View.GONE, content.actionView2.visibility)
+                assertNotEquals(Color.RED, content.titleView.currentTextColor)
+                bannerbar.dismiss()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+}
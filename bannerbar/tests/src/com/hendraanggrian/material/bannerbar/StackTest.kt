@@ -0,0 +1,125 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.graphics.Color
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarContentLayout
+import com.google.android.material.snackbar.BannerbarSpec
+import com.google.android.material.snackbar.BannerbarStackLayout
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertSame
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class StackTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Stack Test"))
+    }
+
+    @Test fun rebindColors() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val context = view.context
+                val plain1 = BannerbarSpec.Builder(context)
+                    .setTitle("Plain")
+                    .setSubtitle("Subtitle")
+                    .addAction("Action", null)
+                    .build()
+                val colored = plain1.buildUpon(context)
+                    .setTitle("Colored")
+                    .setTitleColor(Color.RED)
+                    .setSubtitleColor(Color.RED)
+                    .setActionsTextColor(Color.RED)
+                    .build()
+                val plain2 = plain1.buildUpon(context).setTitle("Plain again").build()
+                val stack = BannerbarStackLayout(context).apply {
+                    maxVisible = 1
+                    push(plain1)
+                    push(colored)
+                    push(plain2)
+                }
+                val content = stack.getChildAt(0) as BannerbarContentLayout
+                val titleColor = content.titleView.currentTextColor
+                val subtitleColor = content.subtitleView.currentTextColor
+                val actionColor = content.actionView1.currentTextColor
+
+                stack.remove(plain1)
+                assertSame(content, stack.getChildAt(0))
+                assertEquals(Color.RED, content.titleView.currentTextColor)
+                assertEquals(Color.RED, content.subtitleView.currentTextColor)
+                assertEquals(Color.RED, content.actionView1.currentTextColor)
+
+                stack.remove(colored)
+                assertSame(content, stack.getChildAt(0))
+                assertEquals(titleColor, content.titleView.currentTextColor)
+                assertEquals(subtitleColor, content.subtitleView.currentTextColor)
+                assertEquals(actionColor, content.actionView1.currentTextColor)
+            }
+        })
+    }
+
+    @Test fun actionColorAsStandalone() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val context = view.context
+                val spec = BannerbarSpec.Builder(context)
+                    .setTitle("Action color")
+                    .addAction("Action", null)
+                    .build()
+                val standalone = Bannerbar.make(view, spec).contentLayout.actionView1.currentTextColor
+                val stack = BannerbarStackLayout(context).apply { push(spec) }
+                val content = stack.getChildAt(0) as BannerbarContentLayout
+                assertEquals(standalone, content.actionView1.currentTextColor)
+            }
+        })
+    }
+
+    @Test fun rebindKeepsActionColors() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val context = view.context
+                val first = BannerbarSpec.Builder(context)
+                    .setTitle("First")
+                    .addAction("Action", null)
+                    .build()
+                val second = first.buildUpon(context).setTitle("Second").build()
+                val stack = BannerbarStackLayout(context).apply {
+                    maxVisible = 1
+                    push(first)
+                    push(second)
+                }
+                val content = stack.getChildAt(0) as BannerbarContentLayout
+                val actionColors = content.actionView1.textColors
+
+                stack.remove(first)
+                assertSame(content, stack.getChildAt(0))
+                assertSame(actionColors, content.actionView1.textColors)
+            }
+        })
+    }
+}
@@ -0,0 +1,68 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.google.android.material.snackbar.BannerbarSpec
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class TextTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var bannerbar: Bannerbar
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Text Test"))
+    }
+
+    @Test fun asyncReplacedBySync() = showThenAssert("Sync") {
+        it.setTitleAsync("Async").show()
+        it.setTitle("Sync")
+    }
+
+    @Test fun asyncReplacedBySpec() = showThenAssert("Spec") {
+        it.setTitleAsync("Async").show()
+        it.apply(BannerbarSpec.Builder(it.context).setTitle("Spec").build())
+    }
+
+    /** Runs [block] on a new bannerbar, then checks that it is shown with [title]. */
+    private fun showThenAssert(title: String, block: (Bannerbar) -> Unit) {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                bannerbar = Bannerbar.make(view, "Initial", Bannerbar.LENGTH_INDEFINITE)
+                block(bannerbar)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                assertTrue(bannerbar.isShown)
+                assertEquals(title, bannerbar.contentLayout.titleView.text.toString())
+                bannerbar.dismiss()
+            }
+        })
+    }
+}
@@ -0,0 +1,100 @@
+package com.hendraanggrian.material.bannerbar
+
+import android.view.View
+import android.widget.FrameLayout
+import androidx.test.espresso.Espresso.onView
+import androidx.test.espresso.UiController
+import androidx.test.espresso.ViewAction
+import androidx.test.espresso.matcher.ViewMatchers.isAssignableFrom
+import androidx.test.espresso.matcher.ViewMatchers.withId
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.rule.ActivityTestRule
+import com.google.android.material.snackbar.Bannerbar
+import com.hendraanggrian.material.bannerbar.test.AbstractTest
+import com.hendraanggrian.material.bannerbar.test.R
+import com.hendraanggrian.material.bannerbar.test.TestActivity
+import org.junit.Rule
+import org.junit.runner.RunWith
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class UpdateTest : AbstractTest() {
+
+    @Rule @JvmField val rule = ActivityTestRule(TestActivity::class.java)
+
+    private lateinit var bannerbar: Bannerbar
+    private var dismissEvent: Int? = null
+
+    @BeforeTest fun title() {
+        onView(withId(R.id.toolbar)).perform(setTitle("Update Test"))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                bannerbar = Bannerbar.make(view, "Countdown 3", Bannerbar.LENGTH_INDEFINITE)
+                    .setSubtitle("Subtitle")
+                    .addAction("First")
+                    .addAction("Second")
+                    .addCallback(object : Bannerbar.Callback() {
+                        override fun onDismissed(bannerbar: Bannerbar, event: Int) {
+                            dismissEvent = event
+                        }
+                    })
+                bannerbar.show()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+
+    @Test fun unchanged() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val content = bannerbar.contentLayout
+                assertFalse(content.isLayoutRequested)
+                bannerbar.setTitle("Countdown 3")
+                    .setSubtitle("Subtitle")
+                    .setAction(0, "First", null)
+                    .setAction(1, "Second", null)
+                // nothing changed, so nothing is laid out again
+                assertFalse(content.isLayoutRequested)
+                bannerbar.dismiss()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+
+    @Test fun inPlace() {
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                val content = bannerbar.contentLayout
+                bannerbar.setTitle("Countdown 2").removeAction(0)
+                assertEquals("Countdown 2", content.titleView.text.toString())
+                assertEquals("Second", content.actionView1.text.toString())
+                assertEquals(View.GONE, content.actionView2.visibility)
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+        onView(withId(R.id.frameLayout)).perform(object : ViewAction {
+            override fun getConstraints() = isAssignableFrom(FrameLayout::class.java)
+            override fun getDescription() = FrameLayout::class.java.name
+            override fun perform(uiController: UiController, view: View) {
+                // updated without being dismissed and shown again
+                assertTrue(bannerbar.isShown)
+                assertNull(dismissEvent)
+                bannerbar.dismiss()
+            }
+        })
+        onView(withId(R.id.progressBar)).perform(delay(1000))
+    }
+}
@@ -8,6 +8,7 @@ const val VERSION_ANDROIDX_TEST = "1.2.0"
 const val VERSION_ANDROIDX_JUNIT = "1.1.1"
 const val VERSION_ANDROIDX_TRUTH = "1.2.0"
 const val VERSION_ESPRESSO = "3.2.0"
+const val VERSION_STARTUP = "1.0.0"
 
 fun Dependencies.android() = "com.android.tools.build:gradle:$VERSION_ANDROID_PLUGIN"
 
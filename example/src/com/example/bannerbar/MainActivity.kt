@@ -12,7 +12,8 @@ import androidx.appcompat.app.AppCompatDelegate
 import androidx.fragment.app.FragmentTransaction
 import com.google.android.material.snackbar.Bannerbar
 import com.google.android.material.snackbar.Snackbar
-import com.google.android.material.snackbar.addCallback
+import com.google.android.material.snackbar.doOnDismissed
+import com.google.android.material.snackbar.doOnShown
 import com.hendraanggrian.prefy.BindPreference
 import com.hendraanggrian.prefy.PreferencesSaver
 import com.hendraanggrian.prefy.Prefy
@@ -94,11 +95,10 @@ class MainActivity : AppCompatActivity(), View.OnLongClickListener {
         subtitleColor.ifConfigured { bannerbar.setSubtitleColor(it) }
         actionTextColors.ifConfigured { bannerbar.setActionsTextColor(it) }
         backgroundTint.ifConfigured { bannerbar.setBackgroundTint(it) }
-        bannerbar.addCallback {
-            onShown { Log.d("Bannerbar", "Shown") }
-            onDismissed { _, event -> Log.d("Bannerbar", "Dismissed event: $event") }
-        }
-        bannerbar.show()
+        bannerbar
+            .doOnShown { Log.d("Bannerbar", "Shown") }
+            .doOnDismissed { _, event -> Log.d("Bannerbar", "Dismissed event: $event") }
+            .show()
     }
 
     companion object {